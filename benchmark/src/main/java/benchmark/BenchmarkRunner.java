@@ -0,0 +1,35 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner class runs the JMH benchmarks with the gc profiler turned on
+ * and writes the results to jmh-result.json so runs can be compared
+ * 
+ * Accepts the usual JMH command line options, for example a benchmark name
+ * regex to run only some of the benchmarks
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class BenchmarkRunner 
+{
+	public static void main(String args[]) throws RunnerException, CommandLineOptionException
+	{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("jmh-result.json")
+				.build();
+		
+		new Runner(options).run();
+	}
+}
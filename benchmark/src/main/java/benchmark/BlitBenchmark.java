@@ -0,0 +1,143 @@
+package benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.GamePanel;
+import manager.ImageManager;
+
+/**
+ * BlitBenchmark class measures drawing every sprite of the game onto a frame,
+ * either as subimages of the decoded PNG sheets ("sheet") or as the compatible
+ * images made by ImageManager ("atlas")
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BlitBenchmark 
+{
+	@Param({"sheet", "atlas"})
+	private String source;
+	
+	private BufferedImage[] sprites;
+	
+	private BufferedImage frame;
+	private Graphics2D g;
+	
+	@Setup
+	public void setup() throws IOException
+	{
+		sprites = source.equals("sheet") ? loadSheetSprites() : loadAtlasSprites();
+		
+		frame = new BufferedImage(GamePanel.WIDTH, GamePanel.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		g = frame.createGraphics();
+	}
+	
+	@Benchmark
+	public Object drawSprites()
+	{
+		drawAll(g, sprites);
+		
+		return frame;
+	}
+	
+	/**
+	 * Method that slices the sprites out of the PNG sheets the way ImageManager used to
+	 * @return every sprite as a subimage of its sheet
+	 */
+	public static BufferedImage[] loadSheetSprites() throws IOException
+	{
+		List<BufferedImage> sprites = new ArrayList<BufferedImage>();
+		
+		BufferedImage dice = ImageIO.read(BlitBenchmark.class.getResourceAsStream("/images/DiceSheet.png"));
+		BufferedImage buttons = ImageIO.read(BlitBenchmark.class.getResourceAsStream("/images/ButtonSheet.png"));
+		BufferedImage options = ImageIO.read(BlitBenchmark.class.getResourceAsStream("/images/OptionsSheet.png"));
+		
+		for(int i = 0; i < 18; i++)
+		{
+			sprites.add(dice.getSubimage((i % 6) * 100, (i / 6) * 100, 100, 100));
+		}
+		
+		for(int i = 0; i < 8; i++)
+		{
+			sprites.add(buttons.getSubimage((i % 4) * 200, (i / 4) * 50, 200, 50));
+		}
+		
+		for(int i = 0; i < 4; i++)
+		{
+			sprites.add(buttons.getSubimage(i * 150, 100, 150, 50));
+		}
+		
+		for(int i = 0; i < 10; i++)
+		{
+			sprites.add(options.getSubimage((i < 6) ? i * 100 : (i - 6) * 100, (i < 6) ? 0 : 32, 100, 32));
+		}
+		
+		return sprites.toArray(new BufferedImage[0]);
+	}
+	
+	/**
+	 * Method that gives the sprites made by ImageManager
+	 * @return every sprite as a compatible image
+	 */
+	public static BufferedImage[] loadAtlasSprites()
+	{
+		ImageManager imageManager = ImageManager.instance();
+		List<BufferedImage> sprites = new ArrayList<BufferedImage>();
+		
+		sprites.addAll(List.of(imageManager.getWhiteDice()));
+		sprites.addAll(List.of(imageManager.getBlackDice()));
+		sprites.addAll(List.of(imageManager.getRedDice()));
+		sprites.addAll(List.of(imageManager.getButtons()));
+		sprites.addAll(List.of(imageManager.getOptions()));
+		
+		return sprites.toArray(new BufferedImage[0]);
+	}
+	
+	/**
+	 * Method that draws every sprite next to each other, wrapping at the edge of the frame
+	 * @param g (Graphics2D) the frame to draw on
+	 * @param sprites (BufferedImage[]) the sprites
+	 */
+	public static void drawAll(Graphics2D g, BufferedImage[] sprites)
+	{
+		int x = 0;
+		int y = 0;
+		
+		for(BufferedImage sprite : sprites)
+		{
+			if(x + sprite.getWidth() > GamePanel.WIDTH)
+			{
+				x = 0;
+				y += 100;
+			}
+			
+			g.drawImage(sprite, x, y, null);
+			x += sprite.getWidth();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backend.DiceSampler;
+import backend.Die;
+import backend.RollEvaluator;
+import random.RandomProvider;
+import random.XoshiroRandomProvider;
+
+/**
+ * DiceBenchmark class measures rolling dice and evaluating rolls
+ * 
+ * @author Vachia Thoj
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark 
+{
+	private RandomProvider random;
+	
+	private Die die1;
+	private Die die2;
+	
+	private DiceSampler diceSampler;
+	
+	private RollEvaluator rollEvaluator;
+	
+	@Setup
+	public void setup()
+	{
+		random = new XoshiroRandomProvider(42);
+		
+		die1 = new Die(random);
+		die2 = new Die(random);
+		
+		diceSampler = new DiceSampler(random);
+		
+		rollEvaluator = new RollEvaluator(die1, die2);
+	}
+	
+	@Benchmark
+	public int dieRoll()
+	{
+		return die1.roll();
+	}
+	
+	@Benchmark
+	public int twoDieRolls()
+	{
+		return die1.roll() + die2.roll();
+	}
+	
+	@Benchmark
+	public int diceSamplerRoll()
+	{
+		diceSampler.roll();
+		
+		return diceSampler.getValue1() + diceSampler.getValue2();
+	}
+	
+	@Benchmark
+	public int rollAndGetPigValue()
+	{
+		diceSampler.roll();
+		die1.setValue(diceSampler.getValue1());
+		die2.setValue(diceSampler.getValue2());
+		
+		return rollEvaluator.getPigValue();
+	}
+}
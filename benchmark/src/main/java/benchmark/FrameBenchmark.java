@@ -0,0 +1,50 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FrameBenchmark class measures update() + draw() of each State headless through FrameHarness
+ * Run with the gc profiler (BenchmarkRunner does) to see the allocations per frame
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FrameBenchmark 
+{
+	@Param({"MAIN", "PLAY", "RULES", "OPTIONS"})
+	private String stateName;
+	
+	private FrameHarness harness;
+	
+	@Setup
+	public void setup()
+	{
+		harness = new FrameHarness(stateName);
+	}
+	
+	@Benchmark
+	public Object frame()
+	{
+		harness.frame();
+		
+		return harness.getImage();
+	}
+}
@@ -0,0 +1,298 @@
+package benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import helper.DirtyRegion;
+import main.GamePanel;
+import manager.MouseManager;
+import state.MainState;
+import state.OptionsState;
+import state.PlayState;
+import state.RulesState;
+import state.State;
+import timeline.Clock;
+import timeline.ManualClock;
+
+/**
+ * FrameHarness class renders frames of a State into an offscreen image without a window
+ * and measures how long each frame takes, how much it allocates and how many
+ * pixels it draws
+ * 
+ * Mouse input is posted to the MouseManager: the pointer sweeps across
+ * the screen so buttons change image, and in the PlayState the Roll button is
+ * clicked every second so the dice animation is included. Buttons that change
+ * the State are never clicked
+ * 
+ * Animations run on a ManualClock that moves 1/60 of a second every frame, so
+ * the same frames are drawn on every run however long each frame takes
+ * 
+ * Run standalone with: java -Djava.awt.headless=true benchmark.FrameHarness [frames] [state...]
+ * After the States, drawing the sprites from their PNG sheets and from ImageManager is compared
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class FrameHarness 
+{
+	//States that can be measured
+	public static final String[] STATE_NAMES = {"MAIN", "PLAY", "RULES", "OPTIONS"};
+	
+	//Frames between scripted clicks (one second at 60 FPS)
+	private static final int CLICK_INTERVAL = 60;
+	
+	//Time between frames in nanoseconds (60 FPS)
+	private static final long FRAME_NANOS = 1000000000L / 60;
+	
+	//The State being rendered
+	private State state;
+	private String stateName;
+	
+	//Offscreen image the frames are drawn on
+	private BufferedImage image;
+	private Graphics2D g;
+	
+	//Scripted input
+	private MouseManager mouseManager;
+	private int frame;
+	
+	//Time seen by the animations
+	private ManualClock clock;
+	
+	//Pixels drawn since the harness was created
+	private long pixelsDrawn;
+	
+	//Point that is clicked (inside a button that does not change the State)
+	private int clickX;
+	private int clickY;
+	
+	//To measure allocations of the rendering thread
+	private com.sun.management.ThreadMXBean threadBean;
+	
+	/**
+	 * Constructor
+	 * @param stateName (String) one of STATE_NAMES
+	 */
+	public FrameHarness(String stateName)
+	{
+		this.stateName = stateName;
+		
+		//Animations of the State read the ManualClock
+		this.clock = new ManualClock();
+		Clock.setDefault(clock);
+		
+		this.state = createState(stateName);
+		
+		this.image = new BufferedImage(GamePanel.WIDTH, GamePanel.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		this.g = (Graphics2D) image.getGraphics();
+		
+		//Same rendering hints as GamePanel
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		
+		this.mouseManager = MouseManager.instance();
+		this.frame = 0;
+		
+		this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	}
+	
+	/**
+	 * Method that creates a State and picks the point to click in it
+	 */
+	private State createState(String name)
+	{
+		switch(name)
+		{
+			case "PLAY":
+				//Roll button
+				clickX = GamePanel.WIDTH / 2;
+				clickY = GamePanel.HEIGHT - 125;
+				return new PlayState();
+			case "RULES":
+				//Nothing safe to click
+				clickX = -1;
+				clickY = -1;
+				return new RulesState();
+			case "OPTIONS":
+				//Dice color option
+				clickX = 800;
+				clickY = 186;
+				return new OptionsState();
+			default:
+				clickX = -1;
+				clickY = -1;
+				return new MainState();
+		}
+	}
+	
+	//Getter methods
+	public String getStateName() {return stateName;}
+	public BufferedImage getImage() {return image;}
+	
+	/**
+	 * Method that scripts the mouse for the next frame
+	 */
+	private void scriptInput()
+	{
+		//Sweep the pointer left to right and top to bottom
+		int x = (frame * 16) % GamePanel.WIDTH;
+		int y = ((frame / (GamePanel.WIDTH / 16)) * 48) % GamePanel.HEIGHT;
+		mouseManager.postMouseMoved(x, y);
+		
+		if(clickX >= 0 && frame % CLICK_INTERVAL == 0)
+		{
+			mouseManager.postMousePressed(clickX, clickY);
+			mouseManager.postMouseReleased(clickX, clickY);
+		}
+		
+		//Taken the same way as GamePanel does before each update
+		mouseManager.processEvents();
+	}
+	
+	/**
+	 * Method that runs one frame: scripted input, update and draw
+	 * The DirtyRegion of the State is cleared afterwards as if the frame had been shown
+	 */
+	public void frame()
+	{
+		clock.advance(FRAME_NANOS);
+		scriptInput();
+		
+		state.update();
+		state.draw(g);
+		
+		DirtyRegion dirtyRegion = state.getDirtyRegion();
+		if(dirtyRegion != null)
+		{
+			pixelsDrawn += dirtyRegion.getArea();
+			dirtyRegion.clear();
+		}
+		else
+		{
+			pixelsDrawn += GamePanel.WIDTH * GamePanel.HEIGHT;
+		}
+		
+		++frame;
+	}
+	
+	/**
+	 * Method that runs a number of frames and measures each one
+	 * @param numFrames (integer) the number of frames to measure
+	 * @return String with the frame-time percentiles, allocations and pixels drawn per frame
+	 */
+	public String measure(int numFrames)
+	{
+		long[] frameNanos = new long[numFrames];
+		long threadId = Thread.currentThread().getId();
+		
+		long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+		long startPixels = pixelsDrawn;
+		
+		for(int i = 0; i < numFrames; i++)
+		{
+			long startTime = System.nanoTime();
+			frame();
+			frameNanos[i] = System.nanoTime() - startTime;
+		}
+		
+		long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+		long pixels = pixelsDrawn - startPixels;
+		
+		Arrays.sort(frameNanos);
+		
+		long total = 0;
+		for(int i = 0; i < numFrames; i++)
+		{
+			total += frameNanos[i];
+		}
+		
+		return String.format("%-8s frames %6d  mean %7.3f  p50 %7.3f  p90 %7.3f  p99 %7.3f  max %7.3f ms  alloc %,10d B/frame  %,9d pixels/frame",
+				stateName, numFrames, 
+				total / (numFrames * 1000000.0),
+				percentile(frameNanos, 50), 
+				percentile(frameNanos, 90), 
+				percentile(frameNanos, 99), 
+				frameNanos[numFrames - 1] / 1000000.0,
+				allocatedBytes / numFrames,
+				pixels / numFrames);
+	}
+	
+	/**
+	 * Method that gives a percentile of sorted frame times in milliseconds
+	 */
+	private static double percentile(long[] sortedNanos, int percent)
+	{
+		int index = (int) Math.ceil((percent / 100.0) * sortedNanos.length) - 1;
+		
+		return sortedNanos[Math.max(0, index)] / 1000000.0;
+	}
+	
+	/**
+	 * Runs the harness from the command line
+	 * Arguments (all optional): frames, then the names of the States to measure
+	 * 
+	 * @param args command line arguments
+	 */
+	public static void main(String args[])
+	{
+		System.setProperty("java.awt.headless", "true");
+		
+		int numFrames = (args.length > 0) ? Integer.parseInt(args[0]) : 3000;
+		String[] names = (args.length > 1) ? Arrays.copyOfRange(args, 1, args.length) : STATE_NAMES;
+		
+		for(String name : names)
+		{
+			FrameHarness harness = new FrameHarness(name);
+			
+			//Warm up so the JIT has compiled the drawing code
+			harness.measure(numFrames);
+			
+			System.out.println(harness.measure(numFrames));
+		}
+		
+		try
+		{
+			System.out.println(measureBlits("sheet", BlitBenchmark.loadSheetSprites(), numFrames));
+			System.out.println(measureBlits("atlas", BlitBenchmark.loadAtlasSprites(), numFrames));
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Method that measures drawing every sprite of the game onto a frame
+	 * @param name (String) name of where the sprites come from
+	 * @param sprites (BufferedImage[]) the sprites
+	 * @param numFrames (integer) number of times every sprite is drawn
+	 * @return String with the time it takes to draw one sprite
+	 */
+	public static String measureBlits(String name, BufferedImage[] sprites, int numFrames)
+	{
+		BufferedImage frame = new BufferedImage(GamePanel.WIDTH, GamePanel.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = frame.createGraphics();
+		
+		//Warm up
+		for(int i = 0; i < numFrames; i++)
+		{
+			BlitBenchmark.drawAll(g, sprites);
+		}
+		
+		long startTime = System.nanoTime();
+		for(int i = 0; i < numFrames; i++)
+		{
+			BlitBenchmark.drawAll(g, sprites);
+		}
+		long elapsedNanos = System.nanoTime() - startTime;
+		
+		g.dispose();
+		
+		return String.format("BLIT %-5s %d sprites  %8.1f ns/sprite", name, sprites.length, 
+				(double) elapsedNanos / ((long) numFrames * sprites.length));
+	}
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backend.Game;
+import random.XoshiroRandomProvider;
+import simulation.Simulator;
+
+/**
+ * GameBenchmark class measures the Game methods used on every roll
+ * and complete simulated games
+ * 
+ * @author Vachia Thoj
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark 
+{
+	//Turn score at which the benchmarked Players hold
+	private static final int HOLD_AT = 20;
+	
+	private Game game;
+	
+	private Simulator rollSimulator;
+	private Simulator turnSimulator;
+	
+	@Setup
+	public void setup()
+	{
+		game = new Game(100, new XoshiroRandomProvider(42));
+		
+		rollSimulator = new Simulator(100, HOLD_AT, HOLD_AT, new XoshiroRandomProvider(42));
+		
+		turnSimulator = new Simulator(100, HOLD_AT, HOLD_AT, new XoshiroRandomProvider(42));
+		turnSimulator.setSampleTurns(true);
+	}
+	
+	/**
+	 * One roll of a hold-at-20 game: roll, evaluateRoll and doneRolling when holding
+	 */
+	@Benchmark
+	public int rollEvaluateDoneRolling()
+	{
+		game.roll();
+		int pigValue = game.evaluateRoll();
+		
+		if(pigValue != 0)
+		{
+			game.nextPlayer();
+		}
+		else if(game.getTurnScore() >= HOLD_AT)
+		{
+			game.doneRolling();
+			game.nextPlayer();
+		}
+		
+		if(game.isGameOver() == true)
+		{
+			game.reset();
+		}
+		
+		return pigValue;
+	}
+	
+	@Benchmark
+	public long fullGameRollByRoll()
+	{
+		rollSimulator.run(1);
+		
+		return rollSimulator.getPlayer1Wins();
+	}
+	
+	@Benchmark
+	public long fullGameSampledTurns()
+	{
+		turnSimulator.run(1);
+		
+		return turnSimulator.getPlayer1Wins();
+	}
+}
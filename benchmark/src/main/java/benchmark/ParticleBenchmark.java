@@ -0,0 +1,83 @@
+package benchmark;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import effect.ParticleSystem;
+import main.GamePanel;
+import random.XoshiroRandomProvider;
+import timeline.ManualClock;
+
+/**
+ * ParticleBenchmark class measures one frame of a ParticleSystem: moving the
+ * particles by 1/60 of a second and drawing them onto a frame
+ * Particles whose life is over are replaced, so the number alive stays close to particleCount
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParticleBenchmark 
+{
+	//Time between frames in nanoseconds (60 FPS)
+	private static final long FRAME_NANOS = 1000000000L / 60;
+	
+	@Param({"1000", "4000"})
+	private int particleCount;
+	
+	private ParticleSystem particles;
+	private ManualClock clock;
+	
+	private BufferedImage frame;
+	private Graphics2D g;
+	
+	@Setup
+	public void setup()
+	{
+		clock = new ManualClock();
+		
+		Color[] colors = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.MAGENTA};
+		particles = new ParticleSystem(colors, particleCount, 400);
+		particles.setClock(clock);
+		particles.setRandomProvider(new XoshiroRandomProvider(42));
+		
+		frame = new BufferedImage(GamePanel.WIDTH, GamePanel.HEIGHT, BufferedImage.TYPE_INT_RGB);
+		g = frame.createGraphics();
+		
+		//Same rendering hints as GamePanel
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+	}
+	
+	@Benchmark
+	public Object updateAndDraw()
+	{
+		//Keep the system full
+		particles.emit(particleCount - particles.getCount(), GamePanel.WIDTH / 2, GamePanel.HEIGHT / 3, 50, 700, 2.5);
+		
+		clock.advance(FRAME_NANOS);
+		particles.update();
+		particles.draw(g);
+		
+		return frame;
+	}
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import helper.NumberGenerator;
+import random.RandomProvider;
+
+/**
+ * RandomBenchmark class measures drawing a die value from each RandomProvider
+ * 
+ * @author Vachia Thoj
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark 
+{
+	@Param({"xoshiro", "splittable", "threadlocal"})
+	private String generator;
+	
+	private RandomProvider random;
+	
+	@Setup
+	public void setup()
+	{
+		random = RandomProvider.create(generator, 42);
+		NumberGenerator.setRandomProvider(random);
+	}
+	
+	@Benchmark
+	public int numberGenerator()
+	{
+		return NumberGenerator.getRandomNumber(1, 6);
+	}
+	
+	@Benchmark
+	public int provider()
+	{
+		return random.nextInt(1, 6);
+	}
+	
+	/**
+	 * What NumberGenerator did before it used a RandomProvider, kept as a baseline
+	 */
+	@Benchmark
+	public int newRandomPerCall()
+	{
+		return new Random().nextInt(6) + 1;
+	}
+}
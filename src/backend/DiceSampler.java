@@ -0,0 +1,135 @@
+package backend;
+
+import random.RandomProvider;
+
+/**
+ * DiceSampler class rolls both dice at once with a single random number
+ * 
+ * The exact distribution of Die.roll (including the chance for a 1 to be
+ * modified) is precomputed into a lookup table of equally likely outcomes.
+ * One random number picks an entry for each die, so a roll of two dice
+ * costs one call to the RandomProvider instead of up to six
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class DiceSampler 
+{
+	//Number of equally likely outcomes of a single Die.roll
+	//(first draw) * (chance to modify draw) * (modifier draw)
+	private static final int DIE_OUTCOMES = 
+			Die.MAX_VALUE * (Die.MAX_CHANCE + 1) * (Die.MAX_VALUE - Die.MIN_VALUE);
+	
+	//Number of equally likely outcomes of rolling two dice
+	private static final int ROLL_OUTCOMES = DIE_OUTCOMES * DIE_OUTCOMES;
+	
+	//Value of a die for each of its equally likely outcomes
+	private static final byte[] FACES = createFaces();
+	
+	//Number of outcomes that give each value (index 0 is unused)
+	private static final int[] FACE_WEIGHTS = createFaceWeights();
+	
+	//Source of random numbers
+	private RandomProvider random;
+	
+	//Values of the last roll
+	private int value1;
+	private int value2;
+	
+	/**
+	 * Constructor
+	 * @param random (RandomProvider) the source of random numbers
+	 */
+	public DiceSampler(RandomProvider random)
+	{
+		this.random = random;
+		
+		this.value1 = Die.MIN_VALUE;
+		this.value2 = Die.MIN_VALUE;
+	}
+	
+	//Getter methods
+	public int getValue1() {return value1;}
+	public int getValue2() {return value2;}
+	
+	/**
+	 * Method that rolls both dice using one random number
+	 */
+	public void roll()
+	{
+		int outcome = random.nextInt(ROLL_OUTCOMES);
+		
+		value1 = FACES[outcome / DIE_OUTCOMES];
+		value2 = FACES[outcome % DIE_OUTCOMES];
+	}
+	
+	/**
+	 * Method that gives the exact probability of a die showing a value
+	 * @param value (integer) a value between 1 and 6 (inclusive)
+	 * @return the probability of the value
+	 */
+	public static double getFaceProbability(int value)
+	{
+		return (double) FACE_WEIGHTS[value] / DIE_OUTCOMES;
+	}
+	
+	/**
+	 * Method that gives the exact probability of rolling two values
+	 * @param value1 (integer) value of the first die
+	 * @param value2 (integer) value of the second die
+	 * @return the probability of the roll
+	 */
+	public static double getRollProbability(int value1, int value2)
+	{
+		return ((double) FACE_WEIGHTS[value1] * FACE_WEIGHTS[value2]) / ROLL_OUTCOMES;
+	}
+	
+	/**
+	 * Method that lists the value of a die for each equally likely outcome
+	 * by following every path through Die.roll
+	 * @return the table of values
+	 */
+	private static byte[] createFaces()
+	{
+		byte[] faces = new byte[DIE_OUTCOMES];
+		int modifierOutcomes = Die.MAX_VALUE - Die.MIN_VALUE;
+		int index = 0;
+		
+		for(int value = Die.MIN_VALUE; value <= Die.MAX_VALUE; value++)
+		{
+			for(int chance = 0; chance <= Die.MAX_CHANCE; chance++)
+			{
+				for(int modifier = Die.MIN_VALUE; modifier <= modifierOutcomes; modifier++)
+				{
+					if(value == 1 && chance < Die.MODIFIER_PERCENTAGE)
+					{
+						faces[index] = (byte) (value + modifier);
+					}
+					else
+					{
+						faces[index] = (byte) value;
+					}
+					++index;
+				}
+			}
+		}
+		
+		return faces;
+	}
+	
+	/**
+	 * Method that counts how many outcomes give each value
+	 * @return the weight of each value
+	 */
+	private static int[] createFaceWeights()
+	{
+		int[] weights = new int[Die.MAX_VALUE + 1];
+		
+		for(int i = 0; i < FACES.length; i++)
+		{
+			++weights[FACES[i]];
+		}
+		
+		return weights;
+	}
+}
@@ -1,6 +1,7 @@
 package backend;
 
 import helper.NumberGenerator;
+import random.RandomProvider;
 
 /**
  * Die class represents a die 
@@ -13,23 +14,43 @@ public class Die
 	//Value of die
 	private int value;
 	
+	//Source of random numbers
+	private RandomProvider random;
+	
 	//Minimum and maximum value of die
-	private static final int MIN_VALUE = 1;
-	private static final int MAX_VALUE = 6;
+	public static final int MIN_VALUE = 1;
+	public static final int MAX_VALUE = 6;
 	
 	//Percentage chance to modify value
-	private static final int MODIFIER_PERCENTAGE = 7;
+	public static final int MODIFIER_PERCENTAGE = 7;
+	
+	//Largest number drawn when checking the chance to modify (inclusive)
+	static final int MAX_CHANCE = 100;
 	
 	/**
 	 * Constructor
+	 * Uses the RandomProvider of the NumberGenerator
 	 */
 	public Die()
 	{
+		this(NumberGenerator.getRandomProvider());
+	}
+	
+	/**
+	 * Constructor
+	 * @param random (RandomProvider) the source of random numbers for the die
+	 */
+	public Die(RandomProvider random)
+	{
+		this.random = random;
+		
 		value = roll();
 	}
 	
 	public int getValue() {return value;}
 	
+	public void setValue(int value) {this.value = value;}
+	
 	/**
 	 * Method that randomly generates a number between 1 and 6 (inclusive)
 	 * @return an integer between 1 and 6 (inclusive)
@@ -37,18 +58,18 @@ public class Die
 	public int roll()
 	{	
 		//Generate a number between MIN_VALUE and MAX_VALUE (inclusive)
-		value = NumberGenerator.getRandomNumber(MIN_VALUE, MAX_VALUE);
+		value = random.nextInt(MIN_VALUE, MAX_VALUE);
 		
 		//Check if a 1 is rolled
 		if(value == 1)
 		{
 			//Generate random number to see if die should change it's value
-			int chanceToModify = NumberGenerator.getRandomNumber(0, 100);
+			int chanceToModify = random.nextInt(0, MAX_CHANCE);
 
 			if(chanceToModify < MODIFIER_PERCENTAGE)
 			{
 				//Change value
-				value += NumberGenerator.getRandomNumber(MIN_VALUE, MAX_VALUE - 1);
+				value += random.nextInt(MIN_VALUE, MAX_VALUE - 1);
 			}
 		}
 		
@@ -1,6 +1,8 @@
 package backend;
 
+import helper.NumberGenerator;
 import manager.OptionsManager;
+import random.RandomProvider;
 
 /**
  * Game class manages the game state of the Pig Dice Game
@@ -9,9 +11,6 @@ import manager.OptionsManager;
  */
 public class Game 
 {
-	//To manage options
-	private OptionsManager optionsManager;
-	
 	//Players
 	private Player player1;
 	private Player player2;
@@ -20,6 +19,9 @@ public class Game
 	private Die die1;
 	private Die die2;
 	
+	//Rolls both dices with one random number
+	private DiceSampler diceSampler;
+	
 	//To evaluate rolls
 	private RollEvaluator rollEvaluator;
 	
@@ -40,15 +42,34 @@ public class Game
 	
 	/**
 	 * Constructor
+	 * Uses the target score currently selected in the OptionsManager
 	 */
 	public Game()
 	{
-		this.optionsManager = OptionsManager.instance();
-		this.targetScore = optionsManager.getTargetScore();
+		this(OptionsManager.instance().getTargetScore());
+	}
+	
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 */
+	public Game(int targetScore)
+	{
+		this(targetScore, NumberGenerator.getRandomProvider());
+	}
+	
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @param random (RandomProvider) the source of random numbers for the dice
+	 */
+	public Game(int targetScore, RandomProvider random)
+	{
+		this.targetScore = targetScore;
 		
 		createPlayers();
 		createRollEvaluator();
-		createDice();
+		createDice(random);
 
 		this.turnScore = 0;
 		
@@ -69,10 +90,12 @@ public class Game
 		this.rollEvaluator = new RollEvaluator();
 	}
 	
-	private void createDice()
+	private void createDice(RandomProvider random)
 	{
-		this.die1 = new Die();
-		this.die2 = new Die();
+		this.die1 = new Die(random);
+		this.die2 = new Die(random);
+		
+		this.diceSampler = new DiceSampler(random);
 	}
 	
 	//Getter methods
@@ -81,9 +104,32 @@ public class Game
 	public Die getDie1() {return die1;}
 	public Die getDie2() {return die2;}
 	public Player getCurrentPlayer() {return currentPlayer;}
+	public Player getOtherPlayer() {return (currentPlayer == player1) ? player2 : player1;}
+	public int getCurrentPlayerIndex() {return (currentPlayer == player1) ? 0 : 1;}
 	public int getTurnScore() {return turnScore;}
 	public Player getWinner() {return winner;}
+	public int getWinnerIndex() {return (winner == null) ? -1 : ((winner == player1) ? 0 : 1);}
 	public boolean isGameOver() {return gameOver;}
+	public int getTargetScore() {return targetScore;}
+	
+	//Setter methods
+	public void setTurnScore(int turnScore) {this.turnScore = turnScore;}
+	
+	/**
+	 * Method that resets the Game so the same Players, Dice and RollEvaluator
+	 * can be reused for another game with the same target score
+	 */
+	public void reset()
+	{
+		player1.setScore(0);
+		player2.setScore(0);
+		
+		currentPlayer = player1;
+		turnScore = 0;
+		
+		winner = null;
+		gameOver = false;
+	}
 	
 	/**
 	 * Method that rolls both dices
@@ -91,8 +137,9 @@ public class Game
 	public void roll()
 	{
 		//Roll both dices
-		die1.roll();
-		die2.roll();
+		diceSampler.roll();
+		die1.setValue(diceSampler.getValue1());
+		die2.setValue(diceSampler.getValue2());
 		
 		//Add dice value to turnScore
 		turnScore += die1.getValue() + die2.getValue();
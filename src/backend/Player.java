@@ -1,4 +1,7 @@
 package backend;
+
+import strategy.Strategy;
+
 /**
  * Player class represents a Player playing the game
  * @author Vachia Thoj
@@ -12,6 +15,9 @@ public class Player
 	//The Player's score
 	private int score;
 	
+	//Decides for a computer Player (null for a human Player)
+	private Strategy strategy;
+	
 	/**
 	 * Constructor
 	 * @param name (String) the name of the Player
@@ -26,10 +32,13 @@ public class Player
 	//Getter Methods
 	public String getName() {return name;}
 	public int getScore() {return score;}
+	public Strategy getStrategy() {return strategy;}
+	public boolean isComputer() {return strategy != null;}
 	
 	//Setter Methods
 	public void setName(String name) {this.name = name;}
 	public void setScore(int score) {this.score = score;}
+	public void setStrategy(Strategy strategy) {this.strategy = strategy;}
 	
 	public void addToScore(int amount) {score += amount;}
 	public void removeFromScore(int amount) {score -= amount;}
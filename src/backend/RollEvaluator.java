@@ -52,15 +52,27 @@ public class RollEvaluator
 	 */
 	public int getPigValue()
 	{
-		if(die1.getValue() == 1 && die2.getValue() != 1) //Rolled 1 pig
+		return getPigValue(die1.getValue(), die2.getValue());
+	}
+	
+	/**
+	 * Method that determines if a Pig was rolled from the values of two dice
+	 * 
+	 * @param value1 (integer) the value of the first die
+	 * @param value2 (integer) the value of the second die
+	 * @return integer that tells how many pigs were rolled
+	 */
+	public static int getPigValue(int value1, int value2)
+	{
+		if(value1 == 1 && value2 != 1) //Rolled 1 pig
 		{
 			return PIG_ONE;
 		}
-		else if(die1.getValue() != 1 && die2.getValue() == 1) // Rolled 1 pig
+		else if(value1 != 1 && value2 == 1) // Rolled 1 pig
 		{
 			return PIG_ONE;
 		}
-		else if(die1.getValue() == 1 && die2.getValue() == 1) // Rolled 2 pigs
+		else if(value1 == 1 && value2 == 1) // Rolled 2 pigs
 		{
 			return PIG_TWO;
 		}
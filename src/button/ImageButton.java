@@ -61,7 +61,7 @@ public class ImageButton extends Button
 	public BufferedImage getCurrentImage() {return currentImage;}
 	
 	//Setter methods
-	public void setCurrentImage(BufferedImage currentImage) {this.currentImage = currentImage;}
+	public void setCurrentImage(BufferedImage currentImage) {this.currentImage = currentImage; markDirty();}
 	
 	/**
 	 * Method that updates ImageButton
@@ -73,11 +73,7 @@ public class ImageButton extends Button
 			return;
 		}
 		
-		//Check if mouse has touched ImageButton
-		checkIfMouseTouchingButton();
-		
-		//Check if mouse has clicked on ImageButton
-		checkIfMouseClickingButton();
+		BufferedImage previousImage = currentImage;
 		
 		//Change image of ImageButton if mouse is touching ImageButton
 		if(mouseTouchingButton)
@@ -92,6 +88,12 @@ public class ImageButton extends Button
 			width = image2.getWidth();
 			height = image2.getHeight();
 		}
+		
+		//Draw the ImageButton again only when its image changed
+		if(currentImage != previousImage)
+		{
+			markDirty();
+		}
 	}
 	
 	/**
@@ -0,0 +1,79 @@
+package button;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+
+/**
+ * TextButton class represents a Button that is drawn as text
+ * @author Vachia Thoj
+ *
+ */
+public class TextButton extends Button
+{
+	//Text of TextButton
+	private String text;
+	
+	//Font of the text
+	private Font font;
+	
+	//Color of the text and color when the mouse is touching the TextButton
+	private Color color;
+	private Color touchingColor;
+	
+	/**
+	 * Constructor
+	 * @param x (int) x-coordinate of TextButton
+	 * @param y (int) y-coordinate of TextButton
+	 * @param width (int) width of the clickable area
+	 * @param height (int) height of the clickable area
+	 * @param text (String) the text of the Button
+	 * @param font (Font) the Font of the text
+	 */
+	public TextButton(int x, int y, int width, int height, String text, Font font)
+	{
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		
+		this.text = text;
+		this.font = font;
+		this.color = Color.BLACK;
+		this.touchingColor = Color.RED;
+		
+		this.visible = true;
+		this.disabled = false;
+	}
+	
+	//Getter methods
+	public String getText() {return text;}
+	
+	//Setter methods
+	public void setText(String text) {this.text = text;}
+	public void setColor(Color color) {this.color = color;}
+	public void setTouchingColor(Color touchingColor) {this.touchingColor = touchingColor;}
+	
+	/**
+	 * Method that updates TextButton
+	 */
+	public void update()
+	{
+		//Nothing to do, the color follows mouseTouchingButton when drawn
+	}
+	
+	/**
+	 * Method that draws TextButton
+	 * The text is drawn on the baseline near the bottom of the clickable area
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	public void draw(Graphics2D g)
+	{
+		if(visible)
+		{
+			g.setColor(mouseTouchingButton ? touchingColor : color);
+			g.setFont(font);
+			g.drawString(text, x, y + height - g.getFontMetrics().getDescent());
+		}
+	}
+}
@@ -3,6 +3,8 @@ package context;
 import backend.Die;
 import backend.Game;
 import backend.Player;
+import manager.OptionsManager;
+import strategy.Strategy;
 
 /**
  * Context connects the front end to back end 
@@ -20,7 +22,7 @@ public class Context
 	 */
 	public Context()
 	{
-		this.game = new Game();
+		newGame();
 	}
 	
 	//Getter methods
@@ -29,17 +31,52 @@ public class Context
 	public int getPlayer1Score() {return game.getPlayer1().getScore();}
 	public int getPlayer2Score() {return game.getPlayer2().getScore();}
 	public Player getCurrentPlayer() {return game.getCurrentPlayer();}
+	public Player getOtherPlayer() {return game.getOtherPlayer();}
+	public int getCurrentPlayerIndex() {return game.getCurrentPlayerIndex();}
+	public int getTargetScore() {return game.getTargetScore();}
 	public Die getDie1() {return game.getDie1();}
 	public Die getDie2() {return game.getDie2();}
 	public int getDie1Value() {return game.getDie1().getValue();}
 	public int getDie2Value() {return game.getDie2().getValue();}
 	public int getTurnScore() {return game.getTurnScore();}
 	public Player getWinner() {return game.getWinner();}
+	public int getWinnerIndex() {return game.getWinnerIndex();}
 	public boolean isGameOver() {return game.isGameOver();}
 	
 	public void roll() {game.roll();}
 	public int evaluateRoll() {return game.evaluateRoll();}
 	public void doneRolling() {game.doneRolling();}
 	public void nextPlayer() {game.nextPlayer();}
-	public void newGame() {game = new Game();}
+	
+	/**
+	 * Method that starts a new Game using the current options
+	 */
+	public void newGame()
+	{
+		game = new Game();
+		
+		OptionsManager optionsManager = OptionsManager.instance();
+		game.getPlayer2().setStrategy(Strategy.create(optionsManager.getPlayer2Type(), game.getTargetScore()));
+	}
+
+	/**
+	 * Method that asks the current Player's Strategy if it wants to roll again
+	 * @return true to roll, false to hold (always false for a human Player)
+	 */
+	public boolean computerWantsToRoll()
+	{
+		Player player = game.getCurrentPlayer();
+		
+		if(player.isComputer() == false)
+		{
+			return false;
+		}
+		
+		return player.getStrategy().shouldRoll(
+				player.getScore(), 
+				game.getOtherPlayer().getScore(), 
+				game.getTurnScore(), 
+				game.getTargetScore()
+		);
+	}
 }
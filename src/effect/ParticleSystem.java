@@ -0,0 +1,305 @@
+package effect;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+import entity.Entity;
+import helper.NumberGenerator;
+import random.RandomProvider;
+import timeline.Clock;
+
+/**
+ * ParticleSystem class moves and draws bursts of small square particles
+ * 
+ * Particles are stored as a structure of arrays with a fixed capacity that is
+ * allocated once, and a particle that dies is replaced by the last one, so
+ * emitting, updating and drawing allocate nothing. Particles shrink over their
+ * life and are drawn sorted by color, so each color is set once a frame.
+ * Particles are opaque: translucent rectangles are drawn about ten times
+ * slower and create garbage in Java2D
+ * 
+ * The bounds of the Entity are the bounds of the living particles, so the
+ * DirtyRegion gets the area they cover before and after each update
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class ParticleSystem extends Entity
+{
+	//Default number of particles that can be alive at the same time
+	public static final int DEFAULT_CAPACITY = 4096;
+	
+	//Width and height of a new particle in pixels, it shrinks by one pixel at a time
+	private static final int PARTICLE_SIZE = 4;
+	
+	//Longest time a single update moves the particles (seconds)
+	private static final float MAX_STEP = 0.1f;
+	
+	//Particles: position, speed (pixels per second), age and life (seconds) and color
+	private float[] particleX;
+	private float[] particleY;
+	private float[] speedX;
+	private float[] speedY;
+	private float[] age;
+	private float[] life;
+	private int[] colorIndex;
+	
+	//Number of particles that can be alive and are alive
+	private int capacity;
+	private int count;
+	
+	//Colors a particle can have
+	private Color[] colors;
+	private int colorCount;
+	
+	//Downward acceleration in pixels per second squared
+	private float gravity;
+	
+	//To draw particles sorted by color and size: key of each particle ((color * PARTICLE_SIZE) + size - 1),
+	//particles in drawing order, and where each key starts in that order
+	private int[] keys;
+	private int[] order;
+	private int[] keyStarts;
+	
+	//Source of time
+	private Clock clock;
+	private long lastTime;
+	
+	//Source of random numbers for the direction, speed, life and color of particles
+	private RandomProvider random;
+	
+	/**
+	 * Constructor
+	 * @param colors (Color[]) colors a particle can have, picked at random
+	 * @param capacity (integer) number of particles that can be alive at the same time
+	 * @param gravity (double) downward acceleration in pixels per second squared
+	 */
+	public ParticleSystem(Color[] colors, int capacity, double gravity)
+	{
+		this.capacity = capacity;
+		this.count = 0;
+		
+		this.particleX = new float[capacity];
+		this.particleY = new float[capacity];
+		this.speedX = new float[capacity];
+		this.speedY = new float[capacity];
+		this.age = new float[capacity];
+		this.life = new float[capacity];
+		this.colorIndex = new int[capacity];
+		
+		this.colors = colors.clone();
+		this.colorCount = colors.length;
+		
+		this.gravity = (float) gravity;
+		
+		this.keys = new int[capacity];
+		this.order = new int[capacity];
+		this.keyStarts = new int[(colorCount * PARTICLE_SIZE) + 1];
+		
+		this.clock = Clock.getDefault();
+		this.random = NumberGenerator.getRandomProvider();
+	}
+	
+	//Getter methods
+	public int getCount() {return count;}
+	public int getCapacity() {return capacity;}
+	public boolean isActive() {return count > 0;}
+	
+	//Setter methods
+	public void setClock(Clock clock) {this.clock = clock;}
+	public void setRandomProvider(RandomProvider random) {this.random = random;}
+	
+	/**
+	 * Method that emits a burst of particles from a point in every direction
+	 * Particles that do not fit within the capacity are not emitted
+	 * 
+	 * @param number (integer) number of particles
+	 * @param centerX (double) x-coordinate of the point
+	 * @param centerY (double) y-coordinate of the point
+	 * @param minSpeed (double) slowest speed of a particle in pixels per second
+	 * @param maxSpeed (double) fastest speed of a particle in pixels per second
+	 * @param maxLife (double) longest life of a particle in seconds, each lives between half of it and all of it
+	 */
+	public void emit(int number, double centerX, double centerY, double minSpeed, double maxSpeed, double maxLife)
+	{
+		//Particles already alive moved until now
+		if(count == 0)
+		{
+			lastTime = clock.nanoTime();
+		}
+		
+		int end = Math.min(count + number, capacity);
+		
+		for(int i = count; i < end; i++)
+		{
+			double angle = random.nextDouble() * 2 * Math.PI;
+			double speed = minSpeed + (random.nextDouble() * (maxSpeed - minSpeed));
+			
+			particleX[i] = (float) centerX;
+			particleY[i] = (float) centerY;
+			speedX[i] = (float) (Math.cos(angle) * speed);
+			speedY[i] = (float) (Math.sin(angle) * speed);
+			age[i] = 0;
+			life[i] = (float) (maxLife * (0.5 + (random.nextDouble() * 0.5)));
+			colorIndex[i] = random.nextInt(colorCount);
+		}
+		
+		count = end;
+	}
+	
+	/**
+	 * Method that removes every particle
+	 */
+	public void clear()
+	{
+		markDirty();
+		count = 0;
+		width = 0;
+		height = 0;
+	}
+	
+	/**
+	 * Method that moves the particles by the time passed since the last update
+	 * and removes the ones whose life is over
+	 */
+	public void update()
+	{
+		long now = clock.nanoTime();
+		float step = Math.min((now - lastTime) / 1000000000.0f, MAX_STEP);
+		lastTime = now;
+		
+		if(count == 0)
+		{
+			return;
+		}
+		
+		float minX = Float.MAX_VALUE;
+		float minY = Float.MAX_VALUE;
+		float maxX = -Float.MAX_VALUE;
+		float maxY = -Float.MAX_VALUE;
+		
+		int i = 0;
+		
+		while(i < count)
+		{
+			age[i] += step;
+			
+			if(age[i] >= life[i])
+			{
+				//Replace the dead particle by the last one
+				--count;
+				particleX[i] = particleX[count];
+				particleY[i] = particleY[count];
+				speedX[i] = speedX[count];
+				speedY[i] = speedY[count];
+				age[i] = age[count];
+				life[i] = life[count];
+				colorIndex[i] = colorIndex[count];
+				continue;
+			}
+			
+			speedY[i] += gravity * step;
+			particleX[i] += speedX[i] * step;
+			particleY[i] += speedY[i] * step;
+			
+			minX = Math.min(minX, particleX[i]);
+			minY = Math.min(minY, particleY[i]);
+			maxX = Math.max(maxX, particleX[i]);
+			maxY = Math.max(maxY, particleY[i]);
+			
+			++i;
+		}
+		
+		//Mark the area the particles covered and now cover
+		markDirty();
+		
+		if(count == 0)
+		{
+			width = 0;
+			height = 0;
+		}
+		else
+		{
+			x = (int) minX;
+			y = (int) minY;
+			width = ((int) maxX - x) + PARTICLE_SIZE + 1;
+			height = ((int) maxY - y) + PARTICLE_SIZE + 1;
+			markDirty();
+		}
+	}
+	
+	/**
+	 * Method that draws the particles, one color at a time
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	public void draw(Graphics2D g)
+	{
+		if(count == 0)
+		{
+			return;
+		}
+		
+		int keyCount = colorCount * PARTICLE_SIZE;
+		
+		//Sort the particles by color and size (counting sort)
+		for(int key = 0; key <= keyCount; key++)
+		{
+			keyStarts[key] = 0;
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			int size = 1 + (int) ((1 - (age[i] / life[i])) * PARTICLE_SIZE);
+			size = Math.max(1, Math.min(size, PARTICLE_SIZE));
+			
+			keys[i] = (colorIndex[i] * PARTICLE_SIZE) + (size - 1);
+			++keyStarts[keys[i] + 1];
+		}
+		
+		for(int key = 0; key < keyCount; key++)
+		{
+			keyStarts[key + 1] += keyStarts[key];
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			order[keyStarts[keys[i]]] = i;
+			++keyStarts[keys[i]];
+		}
+		
+		//keyStarts[key] is now where the key ends, which is where the next key starts
+		Object antialiasing = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+		
+		int start = 0;
+		Color color = null;
+		
+		for(int key = 0; key < keyCount; key++)
+		{
+			int end = keyStarts[key];
+			
+			if(end > start)
+			{
+				//Keys of a color follow each other, so each color is set once
+				if(colors[key / PARTICLE_SIZE] != color)
+				{
+					color = colors[key / PARTICLE_SIZE];
+					g.setColor(color);
+				}
+				
+				int size = (key % PARTICLE_SIZE) + 1;
+				
+				for(int j = start; j < end; j++)
+				{
+					int i = order[j];
+					g.fillRect((int) particleX[i], (int) particleY[i], size, size);
+				}
+			}
+			
+			start = end;
+		}
+		
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+	}
+}
@@ -0,0 +1,93 @@
+package effect;
+
+import timeline.Clock;
+import timeline.Easing;
+import timeline.Timeline;
+import timeline.Tween;
+
+/**
+ * ScreenShake class gives an offset that shakes what is drawn back and forth,
+ * dying out over the length of the shake
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class ScreenShake 
+{
+	//Shakes per second along x and along y (different, so the shake is not a straight line)
+	private static final double FREQUENCY_X = 23;
+	private static final double FREQUENCY_Y = 17;
+	
+	//Fraction of the amplitude left, from 1 to 0
+	private Tween strength;
+	private Timeline timeline;
+	
+	//Largest offset of the current shake in pixels
+	private double amplitude;
+	
+	//The current offset
+	private int offsetX;
+	private int offsetY;
+	
+	/**
+	 * Constructor
+	 * @param durationMillis (long) length of a shake in milliseconds
+	 */
+	public ScreenShake(long durationMillis)
+	{
+		this.strength = new Tween(1, 0, durationMillis, Easing.EASE_OUT);
+		this.timeline = new Timeline();
+		this.timeline.add(strength);
+		
+		this.amplitude = 0;
+	}
+	
+	//Getter methods
+	public int getOffsetX() {return offsetX;}
+	public int getOffsetY() {return offsetY;}
+	
+	//Setter methods
+	public void setClock(Clock clock) {timeline.setClock(clock);}
+	
+	/**
+	 * Method that starts a shake, replacing the current one
+	 * @param amplitude (double) largest offset in pixels
+	 */
+	public void start(double amplitude)
+	{
+		this.amplitude = amplitude;
+		
+		timeline.start();
+		update();
+	}
+	
+	/**
+	 * Method that tells if the screen is shaking
+	 * @return true until the shake has died out, otherwise false
+	 */
+	public boolean isShaking()
+	{
+		return timeline.isStarted() && timeline.isDone() == false;
+	}
+	
+	/**
+	 * Method that updates the offset to the current time
+	 */
+	public void update()
+	{
+		if(isShaking() == false)
+		{
+			offsetX = 0;
+			offsetY = 0;
+			return;
+		}
+		
+		timeline.update();
+		
+		double seconds = timeline.getElapsed() / 1000000000.0;
+		double size = amplitude * strength.getValue();
+		
+		offsetX = (int) Math.round(size * Math.sin(seconds * FREQUENCY_X * 2 * Math.PI));
+		offsetY = (int) Math.round(size * Math.cos(seconds * FREQUENCY_Y * 2 * Math.PI));
+	}
+}
@@ -0,0 +1,231 @@
+package effect;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+
+import entity.Entity;
+import helper.TextCache;
+import timeline.Clock;
+
+/**
+ * TextPopups class shows short texts that rise and fade out, for example to
+ * show what a roll did
+ * 
+ * Like the ParticleSystem, popups are stored as a structure of arrays with a
+ * fixed capacity; when it is full the oldest popup is replaced. The bounds of
+ * the Entity are the bounds of the visible popups
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class TextPopups extends Entity
+{
+	//Number of popups that can be shown at the same time
+	private static final int CAPACITY = 8;
+	
+	//Speed the popups rise at in pixels per second
+	private static final float RISE_SPEED = 60;
+	
+	//Number of steps a popup fades out in
+	private static final int ALPHA_LEVELS = 16;
+	
+	//Longest time a single update moves the popups (seconds)
+	private static final float MAX_STEP = 0.1f;
+	
+	//Composites for every alpha level, so drawing does not create any
+	private static final AlphaComposite[] COMPOSITES = new AlphaComposite[ALPHA_LEVELS];
+	
+	static
+	{
+		for(int level = 0; level < ALPHA_LEVELS; level++)
+		{
+			COMPOSITES[level] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (level + 1) / (float) ALPHA_LEVELS);
+		}
+	}
+	
+	//Popups: text, font, color, center and baseline, age and life (seconds)
+	private String[] texts;
+	private Font[] fonts;
+	private Color[] colors;
+	private float[] centerX;
+	private float[] baseline;
+	private float[] age;
+	private float[] life;
+	
+	//Number of popups shown
+	private int count;
+	
+	//Source of time
+	private Clock clock;
+	private long lastTime;
+	
+	/**
+	 * Constructor
+	 */
+	public TextPopups()
+	{
+		this.texts = new String[CAPACITY];
+		this.fonts = new Font[CAPACITY];
+		this.colors = new Color[CAPACITY];
+		this.centerX = new float[CAPACITY];
+		this.baseline = new float[CAPACITY];
+		this.age = new float[CAPACITY];
+		this.life = new float[CAPACITY];
+		
+		this.count = 0;
+		
+		this.clock = Clock.getDefault();
+	}
+	
+	//Getter methods
+	public int getCount() {return count;}
+	public boolean isActive() {return count > 0;}
+	
+	//Setter methods
+	public void setClock(Clock clock) {this.clock = clock;}
+	
+	/**
+	 * Method that shows a popup
+	 * @param text (String) the text
+	 * @param size (integer) size of the font
+	 * @param color (Color) color of the text
+	 * @param x (integer) x-coordinate of the center of the text
+	 * @param y (integer) y-coordinate of the baseline of the text
+	 * @param lifeMillis (long) how long the popup is shown in milliseconds
+	 */
+	public void add(String text, int size, Color color, int x, int y, long lifeMillis)
+	{
+		if(count == 0)
+		{
+			lastTime = clock.nanoTime();
+		}
+		
+		int i = count;
+		
+		if(count == CAPACITY)
+		{
+			//Replace the oldest popup
+			i = 0;
+			
+			for(int j = 1; j < count; j++)
+			{
+				if(age[j] > age[i])
+				{
+					i = j;
+				}
+			}
+		}
+		else
+		{
+			++count;
+		}
+		
+		texts[i] = text;
+		fonts[i] = TextCache.getFont(Font.BOLD, size);
+		colors[i] = color;
+		centerX[i] = x;
+		baseline[i] = y;
+		age[i] = 0;
+		life[i] = lifeMillis / 1000.0f;
+	}
+	
+	/**
+	 * Method that moves the popups by the time passed since the last update
+	 * and removes the ones whose life is over
+	 */
+	public void update()
+	{
+		long now = clock.nanoTime();
+		float step = Math.min((now - lastTime) / 1000000000.0f, MAX_STEP);
+		lastTime = now;
+		
+		if(count == 0)
+		{
+			return;
+		}
+		
+		int left = Integer.MAX_VALUE;
+		int top = Integer.MAX_VALUE;
+		int right = Integer.MIN_VALUE;
+		int bottom = Integer.MIN_VALUE;
+		
+		int i = 0;
+		
+		while(i < count)
+		{
+			age[i] += step;
+			
+			if(age[i] >= life[i])
+			{
+				//Replace the finished popup by the last one
+				--count;
+				texts[i] = texts[count];
+				fonts[i] = fonts[count];
+				colors[i] = colors[count];
+				centerX[i] = centerX[count];
+				baseline[i] = baseline[count];
+				age[i] = age[count];
+				life[i] = life[count];
+				texts[count] = null;
+				continue;
+			}
+			
+			baseline[i] -= RISE_SPEED * step;
+			
+			//Area of the text, wide enough for the font (Courier New is narrower than its size)
+			int size = fonts[i].getSize();
+			int halfWidth = (texts[i].length() * size) / 2;
+			left = Math.min(left, (int) centerX[i] - halfWidth);
+			right = Math.max(right, (int) centerX[i] + halfWidth);
+			top = Math.min(top, (int) baseline[i] - size);
+			bottom = Math.max(bottom, (int) baseline[i] + (size / 2));
+			
+			++i;
+		}
+		
+		//Mark the area the popups covered and now cover
+		markDirty();
+		
+		if(count == 0)
+		{
+			width = 0;
+			height = 0;
+		}
+		else
+		{
+			x = left;
+			y = top;
+			width = right - left;
+			height = bottom - top;
+			markDirty();
+		}
+	}
+	
+	/**
+	 * Method that draws the popups
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	public void draw(Graphics2D g)
+	{
+		if(count == 0)
+		{
+			return;
+		}
+		
+		Composite composite = g.getComposite();
+		
+		for(int i = 0; i < count; i++)
+		{
+			int level = (int) ((1 - (age[i] / life[i])) * ALPHA_LEVELS);
+			level = Math.max(0, Math.min(level, ALPHA_LEVELS - 1));
+			
+			g.setComposite(COMPOSITES[level]);
+			TextCache.drawCenteredText(g, texts[i], fonts[i], colors[i], (int) centerX[i], (int) baseline[i]);
+		}
+		
+		g.setComposite(composite);
+	}
+}
@@ -2,10 +2,20 @@ package entity;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
+import helper.NumberGenerator;
 import main.GamePanel;
+import random.RandomProvider;
+import timeline.Clock;
 
 /**
  * DieObject class represents a die
+ * 
+ * A roll drops the die from above the screen and lets it bounce on the floor.
+ * The whole bounce is worked out when the roll starts: one keyframe per
+ * flight between two bounces with its start time, speed and image. Each
+ * flight is a parabola, so update() only finds the keyframe for the time of
+ * the Clock and evaluates it, and the roll lasts as long whatever the frame rate
+ * 
  * @author Vachia Thoj
  *
  */
@@ -15,15 +25,31 @@ public class DieObject extends Entity
 	private BufferedImage[] images;
 	private BufferedImage currentImage;
 	
-	//Speed of DieObject
-	private double speed;
+	//Downward acceleration in pixels per second squared (5 pixels per frame at 60 FPS)
+	private static final double GRAVITY = 18000;
 	
-	//Change in x and y position
-	private double dx;
-	private double dy;
+	//Downward speed when the die is dropped in pixels per second (15 pixels per frame at 60 FPS)
+	private static final double START_SPEED = 900;
 	
-	//To count number of bounces
-	private int numBounces;
+	//Fraction of the speed kept on each bounce
+	private static final double BOUNCINESS = 0.75;
+	
+	//Number of bounces before the die stops
+	private static final int NUM_BOUNCES = 6;
+	
+	//Keyframes of the current roll: keyframe i starts at keyTimes[i] seconds from
+	//the y-coordinate keyY[i] with downward speed keySpeeds[i] and shows keyImages[i],
+	//the last keyframe is when the die comes to rest
+	private double[] keyTimes;
+	private double[] keyY;
+	private double[] keySpeeds;
+	private int[] keyImages;
+	
+	//Keyframe shown by the last update
+	private int keyframe;
+	
+	//Time of the Clock when the roll started
+	private long rollStart;
 	
 	//Flag to see if rolling animation is occurring
 	private boolean rolling;
@@ -31,6 +57,12 @@ public class DieObject extends Entity
 	//Number of images
 	private int size;
 	
+	//Source of random numbers for the rolling images
+	private RandomProvider random;
+	
+	//Source of time for the rolling animation
+	private Clock clock;
+	
 	/**
 	 * Constructor
 	 * @param images (BufferedImage[]) array of images for a die
@@ -44,59 +76,156 @@ public class DieObject extends Entity
 		this.width = currentImage.getWidth();
 		this.height = currentImage.getHeight();
 		
-		this.speed = 15;
-		this.dx = 0;
-		this.dy = speed;
+		this.keyTimes = new double[NUM_BOUNCES + 2];
+		this.keyY = new double[NUM_BOUNCES + 2];
+		this.keySpeeds = new double[NUM_BOUNCES + 2];
+		this.keyImages = new int[NUM_BOUNCES + 2];
 		
-		this.numBounces = 0;
+		this.keyframe = 0;
 		this.rolling = false;
+		
+		this.random = NumberGenerator.getRandomProvider();
+		this.clock = Clock.getDefault();
 	}
 	
 	//Getter methods
-	public double getDx() {return dx;}
-	public double getDy() {return dy;}
 	public BufferedImage getCurrentImage() {return currentImage;}
 	public boolean isRolling() {return rolling;}
+	public Clock getClock() {return clock;}
+	
+	/**
+	 * Method that gives how long a roll lasts
+	 * @return the length of a roll in seconds
+	 */
+	public double getRollDuration() {return keyTimes[NUM_BOUNCES + 1];}
 	
 	//Setter methods
 	public void setRolling(boolean b) {rolling = b;}
+	public void setRandomProvider(RandomProvider random) {this.random = random;}
+	public void setClock(Clock clock) {this.clock = clock;}
 	
-	public void changeCurrentImage(int index) {currentImage = images[index];}
+	public void changeCurrentImage(int index) {currentImage = images[index]; markDirty();}
 	
 	/**
-	 * Method that updates the DieImage
+	 * Method that drops the die from above the screen and starts the rolling animation
+	 * Dice rolled together are given the same start time so they fall and bounce together
+	 * 
+	 * @param startTime (long) time of the Clock when the roll starts, in nanoseconds
 	 */
-	public void update()
+	public void roll(long startTime)
+	{
+		setY(0 - height);
+		
+		computeKeyframes();
+		
+		keyframe = 0;
+		rollStart = startTime;
+		rolling = true;
+	}
+	
+	/**
+	 * Method that works out the keyframes of a roll from the current position
+	 * The die falls to the floor, then bounces NUM_BOUNCES times keeping BOUNCINESS
+	 * of its speed each time and showing a random image after each bounce
+	 */
+	private void computeKeyframes()
+	{
+		double floor = (GamePanel.HEIGHT / 2) - height;
+		
+		//The fall
+		keyTimes[0] = 0;
+		keyY[0] = y;
+		keySpeeds[0] = START_SPEED;
+		keyImages[0] = indexOf(currentImage);
+		
+		//Speed when reaching the floor
+		double impactSpeed = Math.sqrt((START_SPEED * START_SPEED) + (2 * GRAVITY * (floor - y)));
+		double time = (impactSpeed - START_SPEED) / GRAVITY;
+		
+		//The bounces
+		for(int i = 1; i <= NUM_BOUNCES; i++)
+		{
+			double bounceSpeed = impactSpeed * BOUNCINESS;
+			
+			keyTimes[i] = time;
+			keyY[i] = floor;
+			keySpeeds[i] = -bounceSpeed;
+			keyImages[i] = random.nextInt(size);
+			
+			//The die lands as fast as it left the floor
+			time += (2 * bounceSpeed) / GRAVITY;
+			impactSpeed = bounceSpeed;
+		}
+		
+		//At rest
+		keyTimes[NUM_BOUNCES + 1] = time;
+		keyY[NUM_BOUNCES + 1] = floor;
+		keySpeeds[NUM_BOUNCES + 1] = 0;
+		keyImages[NUM_BOUNCES + 1] = keyImages[NUM_BOUNCES];
+	}
+	
+	/**
+	 * Method that finds the index of an image of the die
+	 * @param image (BufferedImage) an image of the die
+	 * @return the index of the image, 0 if it is not one of the images
+	 */
+	private int indexOf(BufferedImage image)
 	{
-		//A bouncing animation
-		//Check if ball's next position will go beyond the floor
-		if(y + dy > ((GamePanel.HEIGHT / 2) - height))
+		for(int i = 0; i < size; i++)
 		{
-			if(numBounces < 6)
+			if(images[i] == image)
 			{
-				//Changes ball direction when hitting the floor
-				dy = -dy * 0.75;
-				++numBounces;
-				
-				//Change image
-				int value = (int)(Math.random() * size);
-				changeCurrentImage(value);
+				return i;
 			}
-			else
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Method that updates the DieImage to the current time of the Clock
+	 */
+	public void update()
+	{
+		if(rolling == false)
+		{
+			return;
+		}
+		
+		double time = (clock.nanoTime() - rollStart) / 1000000000.0;
+		
+		//Find the keyframe for the time (keyframes are only passed forward)
+		while(keyframe < NUM_BOUNCES + 1 && time >= keyTimes[keyframe + 1])
+		{
+			++keyframe;
+				
+			//Change image
+			if(images[keyImages[keyframe]] != currentImage)
 			{
-				dy = speed;
-				y = ((GamePanel.HEIGHT / 2) - height);
-				numBounces = 0;
-				rolling = false;
+				changeCurrentImage(keyImages[keyframe]);
 			}
 		}
+		
+		int newY;
+		
+		if(keyframe == NUM_BOUNCES + 1)
+		{
+			//The die has come to rest
+			newY = (int) keyY[keyframe];
+			rolling = false;
+		}
 		else
 		{
-			dy += 5;
-        }
+			//Position on the parabola of the keyframe
+			double t = time - keyTimes[keyframe];
+			newY = (int) (keyY[keyframe] + (keySpeeds[keyframe] * t) + (0.5 * GRAVITY * t * t));
+		}
 		
-		//Set the ball's x and y position
-		y += dy;
+		//Set the die's y position
+		if(newY != y)
+		{
+			setY(newY);
+		}
 	}
 	
 	/**
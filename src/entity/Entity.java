@@ -1,5 +1,7 @@
 package entity;
 
+import helper.DirtyRegion;
+
 /**
  * Abstract class that represents an Entity
  * @author Vachia Thoj
@@ -15,6 +17,9 @@ public abstract class Entity
 	protected int width;
 	protected int height;
 	
+	//Region of the screen that is drawn again when the Entity changes, null if not tracked
+	protected DirtyRegion dirtyRegion;
+	
 	protected Entity()
 	{
 		
@@ -25,10 +30,24 @@ public abstract class Entity
 	public int getY() {return y;}
 	public int getWidth() {return width;}
 	public int getHeight() {return height;}
+	public DirtyRegion getDirtyRegion() {return dirtyRegion;}
 	
 	//Setter methods
-	public void setX(int x) {this.x = x;}
-	public void setY(int y) {this.y = y;}
-	public void setWidth(int width) {this.width = width;}
-	public void setHeight(int height) {this.height = height;}
+	public void setX(int x) {markDirty(); this.x = x; markDirty();}
+	public void setY(int y) {markDirty(); this.y = y; markDirty();}
+	public void setWidth(int width) {markDirty(); this.width = width; markDirty();}
+	public void setHeight(int height) {markDirty(); this.height = height; markDirty();}
+	public void setDirtyRegion(DirtyRegion dirtyRegion) {this.dirtyRegion = dirtyRegion; markDirty();}
+	
+	/**
+	 * Method that marks the current bounds of the Entity as changed
+	 * Called before and after the Entity moves or changes how it looks
+	 */
+	protected void markDirty()
+	{
+		if(dirtyRegion != null)
+		{
+			dirtyRegion.add(x, y, width, height);
+		}
+	}
 }
@@ -0,0 +1,180 @@
+package helper;
+
+/**
+ * DirtyRegion class keeps track of the rectangles of the screen that have
+ * changed since the last frame was shown, so only those have to be drawn again
+ * 
+ * Rectangles that overlap or touch are merged. When there are more than
+ * MAX_RECTANGLES they are all merged into their bounding box, which is
+ * still far smaller than the screen in the common case of a few small changes
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class DirtyRegion 
+{
+	//Most rectangles kept apart
+	public static final int MAX_RECTANGLES = 16;
+	
+	//width and height of the screen
+	private int width;
+	private int height;
+	
+	//Corners of the rectangles: left, top, right and bottom (right and bottom excluded)
+	private int[] left;
+	private int[] top;
+	private int[] right;
+	private int[] bottom;
+	private int count;
+	
+	//Flag to indicate that the whole screen has to be drawn
+	private boolean full;
+	
+	/**
+	 * Constructor
+	 * Starts out full since nothing has been drawn yet
+	 * 
+	 * @param width (integer) width of the screen
+	 * @param height (integer) height of the screen
+	 */
+	public DirtyRegion(int width, int height)
+	{
+		this.width = width;
+		this.height = height;
+		
+		this.left = new int[MAX_RECTANGLES];
+		this.top = new int[MAX_RECTANGLES];
+		this.right = new int[MAX_RECTANGLES];
+		this.bottom = new int[MAX_RECTANGLES];
+		
+		addAll();
+	}
+	
+	//Getter methods
+	public int getCount() {return count;}
+	public int getX(int i) {return left[i];}
+	public int getY(int i) {return top[i];}
+	public int getWidth(int i) {return right[i] - left[i];}
+	public int getHeight(int i) {return bottom[i] - top[i];}
+	public boolean isFull() {return full;}
+	public boolean isEmpty() {return count == 0;}
+	
+	/**
+	 * Method that marks the whole screen as changed
+	 */
+	public void addAll()
+	{
+		full = true;
+		count = 1;
+		left[0] = 0;
+		top[0] = 0;
+		right[0] = width;
+		bottom[0] = height;
+	}
+	
+	/**
+	 * Method that marks a rectangle as changed
+	 * @param x (integer) x-coordinate of the rectangle
+	 * @param y (integer) y-coordinate of the rectangle
+	 * @param w (integer) width of the rectangle
+	 * @param h (integer) height of the rectangle
+	 */
+	public void add(int x, int y, int w, int h)
+	{
+		if(full == true)
+		{
+			return;
+		}
+		
+		//Only the part on the screen matters
+		int x0 = Math.max(x, 0);
+		int y0 = Math.max(y, 0);
+		int x1 = Math.min(x + w, width);
+		int y1 = Math.min(y + h, height);
+		
+		if(x0 >= x1 || y0 >= y1)
+		{
+			return;
+		}
+		
+		//Grow a rectangle it touches, then keep merging while the grown rectangle touches others
+		int i = 0;
+		while(i < count)
+		{
+			if(x0 <= right[i] && left[i] <= x1 && y0 <= bottom[i] && top[i] <= y1)
+			{
+				x0 = Math.min(x0, left[i]);
+				y0 = Math.min(y0, top[i]);
+				x1 = Math.max(x1, right[i]);
+				y1 = Math.max(y1, bottom[i]);
+				
+				remove(i);
+				i = 0;
+			}
+			else
+			{
+				++i;
+			}
+		}
+		
+		if(count == MAX_RECTANGLES)
+		{
+			for(i = 0; i < count; i++)
+			{
+				x0 = Math.min(x0, left[i]);
+				y0 = Math.min(y0, top[i]);
+				x1 = Math.max(x1, right[i]);
+				y1 = Math.max(y1, bottom[i]);
+			}
+			count = 0;
+		}
+		
+		left[count] = x0;
+		top[count] = y0;
+		right[count] = x1;
+		bottom[count] = y1;
+		++count;
+		
+		if(x0 == 0 && y0 == 0 && x1 == width && y1 == height)
+		{
+			full = true;
+		}
+	}
+	
+	/**
+	 * Method that removes a rectangle by moving the last one in its place
+	 */
+	private void remove(int i)
+	{
+		--count;
+		left[i] = left[count];
+		top[i] = top[count];
+		right[i] = right[count];
+		bottom[i] = bottom[count];
+	}
+	
+	/**
+	 * Method that gives the number of pixels that have to be drawn
+	 * @return the total area of the rectangles
+	 */
+	public long getArea()
+	{
+		long area = 0;
+		
+		for(int i = 0; i < count; i++)
+		{
+			area += (long) (right[i] - left[i]) * (bottom[i] - top[i]);
+		}
+		
+		return area;
+	}
+	
+	/**
+	 * Method that forgets every change, called once the frame has been shown
+	 */
+	public void clear()
+	{
+		full = false;
+		count = 0;
+	}
+}
@@ -1,15 +1,27 @@
 package helper;
 
-import java.util.Random;
+import random.RandomProvider;
+import random.ThreadLocalRandomProvider;
 
 /**
  * NumberGenerator class is a helper class that generate a random number
+ * Numbers are drawn from a shared RandomProvider that can be replaced,
+ * for example with a seeded one to make games reproducible
  * 
  * @author Vachia Thoj
  *
  */
 public class NumberGenerator 
 {
+	//Default source of random numbers
+	private static RandomProvider randomProvider = new ThreadLocalRandomProvider();
+	
+	//Getter methods
+	public static RandomProvider getRandomProvider() {return randomProvider;}
+	
+	//Setter methods
+	public static void setRandomProvider(RandomProvider provider) {randomProvider = provider;}
+	
 	/**
 	 * Method that generates a random integer number
 	 * @param min (integer) the smallest possible number to generate (inclusive)
@@ -18,8 +30,7 @@ public class NumberGenerator
 	 */
 	public static int getRandomNumber(int min, int max)
 	{
-		Random random = new Random();
-		int number = random.nextInt((max - min) + 1) + min;
+		int number = randomProvider.nextInt(min, max);
 		
 		return number;
 	}
@@ -0,0 +1,265 @@
+package helper;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TextCache class is a helper class that keeps what is needed to draw text
+ * so it does not have to be created again every frame:
+ * - one Font object per style and size
+ * - the width of every String measured with a Font
+ * - the Strings of small numbers (scores)
+ * - images of rendered text, the least recently drawn ones are thrown away
+ * 
+ * Lookups do not allocate, so drawing text that has been drawn before
+ * creates no garbage
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class TextCache 
+{
+	//Font family used by the game
+	public static final String FONT_NAME = "Courier New";
+	
+	//Largest Font size kept
+	public static final int MAX_FONT_SIZE = 128;
+	
+	//Most text images kept
+	public static final int MAX_IMAGES = 64;
+	
+	//Most widths kept per Font
+	public static final int MAX_WIDTHS = 1024;
+	
+	//Numbers below this value have their String kept
+	public static final int MAX_NUMBER = 1000;
+	
+	//Space around the text in a text image for anti-aliased edges
+	private static final int PADDING = 2;
+	
+	//fonts[style][size]
+	private static final Font[][] fonts = new Font[4][MAX_FONT_SIZE + 1];
+	
+	//Width of Strings per Font
+	private static final Map<Font, Map<String, Integer>> widths = new HashMap<Font, Map<String, Integer>>();
+	
+	//Strings of numbers
+	private static final String[] numbers = new String[MAX_NUMBER];
+	
+	//Text images in the order they were last drawn
+	private static final LinkedHashMap<TextKey, TextImage> images = new LinkedHashMap<TextKey, TextImage>(MAX_IMAGES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		
+		protected boolean removeEldestEntry(Map.Entry<TextKey, TextImage> eldest)
+		{
+			return size() > MAX_IMAGES;
+		}
+	};
+	
+	//Key reused to look up text images
+	private static final TextKey lookupKey = new TextKey();
+	
+	/**
+	 * Method that gives the shared Font of the game
+	 * @param style (integer) Font.PLAIN, Font.BOLD, Font.ITALIC or Font.BOLD | Font.ITALIC
+	 * @param size (integer) point size of the Font
+	 * @return the Font
+	 */
+	public static synchronized Font getFont(int style, int size)
+	{
+		if(size < 0 || size > MAX_FONT_SIZE)
+		{
+			return new Font(FONT_NAME, style, size);
+		}
+		
+		Font font = fonts[style & 3][size];
+		
+		if(font == null)
+		{
+			font = new Font(FONT_NAME, style & 3, size);
+			fonts[style & 3][size] = font;
+		}
+		
+		return font;
+	}
+	
+	/**
+	 * Method that gives the String of a number
+	 * @param value (integer) the number
+	 * @return the same String as String.valueOf(value)
+	 */
+	public static synchronized String getNumber(int value)
+	{
+		if(value < 0 || value >= MAX_NUMBER)
+		{
+			return String.valueOf(value);
+		}
+		
+		if(numbers[value] == null)
+		{
+			numbers[value] = String.valueOf(value);
+		}
+		
+		return numbers[value];
+	}
+	
+	/**
+	 * Method that determines the width of a String, measuring it only the first time
+	 * @param text (String) the String that you want the width for
+	 * @param font (Font) the Font the String is drawn with
+	 * @param g (Graphics2D) the Graphics2D object that the String is to be drawn on
+	 * @return the width of the String as an integer
+	 */
+	public static synchronized int getTextWidth(String text, Font font, Graphics2D g)
+	{
+		Map<String, Integer> fontWidths = widths.get(font);
+		
+		if(fontWidths == null)
+		{
+			fontWidths = new HashMap<String, Integer>();
+			widths.put(font, fontWidths);
+		}
+		
+		Integer width = fontWidths.get(text);
+		
+		if(width == null)
+		{
+			if(fontWidths.size() >= MAX_WIDTHS)
+			{
+				fontWidths.clear();
+			}
+			
+			width = (int) font.getStringBounds(text, g.getFontRenderContext()).getWidth();
+			fontWidths.put(text, width);
+		}
+		
+		return width;
+	}
+	
+	/**
+	 * Method that draws a String from its cached image
+	 * The image is rendered the first time the String is drawn with the Font and Color
+	 * 
+	 * @param g (Graphics2D) the Graphics2D object to be drawn on
+	 * @param text (String) the String to draw
+	 * @param font (Font) the Font to draw with
+	 * @param color (Color) the Color to draw with
+	 * @param x (integer) x-coordinate of the start of the String
+	 * @param y (integer) y-coordinate of the baseline of the String
+	 */
+	public static synchronized void drawText(Graphics2D g, String text, Font font, Color color, int x, int y)
+	{
+		if(text.isEmpty() == true)
+		{
+			return;
+		}
+		
+		lookupKey.set(text, font, color);
+		TextImage textImage = images.get(lookupKey);
+		
+		if(textImage == null)
+		{
+			textImage = new TextImage(text, font, color, g.getFontRenderContext());
+			images.put(new TextKey(text, font, color), textImage);
+		}
+		
+		g.drawImage(textImage.image, x + textImage.offsetX, y + textImage.offsetY, null);
+	}
+	
+	/**
+	 * Method that draws a String from its cached image, centered around an x-coordinate
+	 * @param g (Graphics2D) the Graphics2D object to be drawn on
+	 * @param text (String) the String to draw
+	 * @param font (Font) the Font to draw with
+	 * @param color (Color) the Color to draw with
+	 * @param centerX (integer) x-coordinate of the center of the String
+	 * @param y (integer) y-coordinate of the baseline of the String
+	 */
+	public static void drawCenteredText(Graphics2D g, String text, Font font, Color color, int centerX, int y)
+	{
+		drawText(g, text, font, color, centerX - (getTextWidth(text, font, g) / 2), y);
+	}
+	
+	/**
+	 * TextKey class identifies a text image by its String, Font and Color
+	 */
+	private static class TextKey
+	{
+		private String text;
+		private Font font;
+		private Color color;
+		
+		private TextKey()
+		{
+			
+		}
+		
+		private TextKey(String text, Font font, Color color)
+		{
+			set(text, font, color);
+		}
+		
+		private void set(String text, Font font, Color color)
+		{
+			this.text = text;
+			this.font = font;
+			this.color = color;
+		}
+		
+		public boolean equals(Object o)
+		{
+			if(o instanceof TextKey == false)
+			{
+				return false;
+			}
+			
+			TextKey key = (TextKey) o;
+			
+			return text.equals(key.text) && font.equals(key.font) && color.equals(key.color);
+		}
+		
+		public int hashCode()
+		{
+			return (((text.hashCode() * 31) + font.hashCode()) * 31) + color.hashCode();
+		}
+	}
+	
+	/**
+	 * TextImage class is a String rendered once on a transparent image
+	 */
+	private static class TextImage
+	{
+		private BufferedImage image;
+		
+		//Position of the image relative to the start of the baseline
+		private int offsetX;
+		private int offsetY;
+		
+		private TextImage(String text, Font font, Color color, FontRenderContext frc)
+		{
+			Rectangle bounds = font.createGlyphVector(frc, text).getPixelBounds(frc, 0, 0);
+			
+			this.offsetX = bounds.x - PADDING;
+			this.offsetY = bounds.y - PADDING;
+			this.image = new BufferedImage(bounds.width + (PADDING * 2), bounds.height + (PADDING * 2), 
+					BufferedImage.TYPE_INT_ARGB_PRE);
+			
+			Graphics2D g = image.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, frc.getAntiAliasingHint());
+			g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, frc.getFractionalMetricsHint());
+			g.setFont(font);
+			g.setColor(color);
+			g.drawString(text, -offsetX, -offsetY);
+			g.dispose();
+		}
+	}
+}
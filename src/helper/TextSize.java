@@ -18,9 +18,8 @@ public class TextSize
 	 */
 	public static int getTextWidth(String text, Graphics2D g)
 	{
-		int width = (int) g.getFontMetrics().getStringBounds(text, g).getWidth();
-		
-		return width;
+		//Measured once per String and Font
+		return TextCache.getTextWidth(text, g.getFont(), g);
 	}
 	
 	/**
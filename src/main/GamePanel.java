@@ -1,16 +1,21 @@
 package main;
 
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.*;
 import java.awt.Dimension;
-import java.awt.Graphics;
+import java.awt.Window;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.locks.LockSupport;
 
+import helper.DirtyRegion;
 import manager.MouseManager;
 import manager.StateManager;
+import presenter.Presenter;
 
 /**
  * GamePanel class is the panel (screen) that will be drawn on
@@ -29,12 +34,42 @@ public class GamePanel extends JPanel implements Runnable
 	private Thread thread;
 	private boolean running;
 	
-	//To render graphics
-	private BufferedImage image;
-	private Graphics2D g;
+	//To show frames on the screen
+	private Presenter presenter;
+	
+	//Number of times per second the game is updated (animations are counted in updates)
+	public static final int UPDATES_PER_SECOND = 60;
+	
+	//Number of frames drawn per second unless told otherwise
+	public static final int DEFAULT_FPS = 60;
+	
+	//Number of frames drawn per second while the window does not have focus
+	public static final int BACKGROUND_FPS = 10;
+	
+	//Longest time to wait for input when nothing is animating
+	private static final long IDLE_TIMEOUT_NANOS = 1000000000L;
+	
+	//Most updates run in a row without drawing when the game falls behind
+	private static final int MAX_FRAME_SKIP = 5;
+	
+	//Time before a deadline that is spent spinning instead of sleeping
+	private static final long SPIN_NANOS = 1000000;
 	
-	//Game framerate
-	private static final int FPS = 60;
+	//Frames drawn per second to aim for
+	private int targetFps;
+	
+	//Flag to only update and draw while something is animating or after input
+	private boolean onDemand;
+	
+	//State of the window, changed on the event dispatch thread
+	private volatile boolean focused;
+	private volatile boolean minimized;
+	private volatile boolean redrawRequested;
+	
+	//Measured over the last second
+	private volatile int fps;
+	private volatile int ups;
+	private volatile long droppedFrames;
 	
 	//Manage different states
 	private StateManager stateManager;
@@ -44,8 +79,18 @@ public class GamePanel extends JPanel implements Runnable
 	
 	/**
 	 * Constructor
+	 * Uses the default Presenter
 	 */
 	public GamePanel()
+	{
+		this(Presenter.DEFAULT);
+	}
+	
+	/**
+	 * Constructor
+	 * @param presenterName (String) name of the Presenter that shows the frames (see Presenter.create)
+	 */
+	public GamePanel(String presenterName)
 	{
 		super();
 		this.setPreferredSize(new Dimension(WIDTH, HEIGHT));
@@ -54,6 +99,50 @@ public class GamePanel extends JPanel implements Runnable
 		
 		stateManager = StateManager.instance();
 		mouseManager = MouseManager.instance();
+		
+		targetFps = DEFAULT_FPS;
+		onDemand = true;
+		focused = true;
+		presenter = Presenter.create(presenterName, this, WIDTH, HEIGHT);
+	}
+	
+	//Getter methods
+	public int getTargetFps() {return targetFps;}
+	public int getFps() {return fps;}
+	public int getUps() {return ups;}
+	public long getDroppedFrames() {return droppedFrames;}
+	public Presenter getPresenter() {return presenter;}
+	public boolean isOnDemand() {return onDemand;}
+	
+	//Setter methods
+	public void setOnDemand(boolean b) {onDemand = b;}
+	
+	/**
+	 * Method that sets the number of frames drawn per second
+	 * The game itself is always updated UPDATES_PER_SECOND times per second and a frame
+	 * is only drawn after an update, so a target above UPDATES_PER_SECOND has no effect
+	 * 
+	 * @param targetFps (integer) frames per second, at least 1
+	 */
+	public void setTargetFps(int targetFps)
+	{
+		this.targetFps = Math.max(1, targetFps);
+	}
+	
+	/**
+	 * Method that starts the Presenter, falling back to a more compatible one
+	 * when it can not be used on this machine
+	 */
+	private void startPresenter()
+	{
+		while(presenter.start() == false)
+		{
+			Presenter fallback = presenter.getFallback();
+			System.out.println("Presenter " + presenter.getName() + " is not available, using " + fallback.getName());
+			presenter = fallback;
+		}
+		
+		System.out.println("Presenting with " + presenter.getDescription());
 	}
 	
 	public void addNotify()
@@ -66,16 +155,14 @@ public class GamePanel extends JPanel implements Runnable
 			addMouseListener(new MouseAdapter(){
 				public void mousePressed(MouseEvent e)
 				{
-					mouseManager.setPressedPoint(e.getX(), e.getY());
-					mouseManager.setMousePressed(true);
-					mouseManager.setMouseReleased(false);
+					mouseManager.postMousePressed(e.getX(), e.getY());
+					wakeUp();
 				}
 				
 				public void mouseReleased(MouseEvent e)
 				{
-					mouseManager.setReleasedPoint(e.getX(), e.getY());
-					mouseManager.setMouseReleased(true);
-					mouseManager.setMousePressed(false);
+					mouseManager.postMouseReleased(e.getX(), e.getY());
+					wakeUp();
 				}
 			});
 			
@@ -83,86 +170,269 @@ public class GamePanel extends JPanel implements Runnable
 			addMouseMotionListener(new MouseAdapter() {
 				public void mouseMoved(MouseEvent e)
 				{
-					mouseManager.setCurrentPoint(e.getX(), e.getY());
+					mouseManager.postMouseMoved(e.getX(), e.getY());
+					wakeUp();
 				}
 			});
 			
+			//Draw less often while the window is in the background, and not at all while minimized
+			Window window = SwingUtilities.getWindowAncestor(this);
+			if(window != null)
+			{
+				WindowAdapter windowAdapter = new WindowAdapter() {
+					public void windowGainedFocus(WindowEvent e)
+					{
+						focused = true;
+						wakeUp();
+					}
+					
+					public void windowLostFocus(WindowEvent e)
+					{
+						focused = false;
+					}
+					
+					public void windowIconified(WindowEvent e)
+					{
+						minimized = true;
+					}
+					
+					public void windowDeiconified(WindowEvent e)
+					{
+						minimized = false;
+						requestRedraw();
+					}
+				};
+				
+				window.addWindowFocusListener(windowAdapter);
+				window.addWindowListener(windowAdapter);
+			}
+			
 			//Create thread and start thread
 			thread = new Thread(this);
 			thread.start();
 		}
 	}
 	
+	/**
+	 * Method that wakes the game thread up if it is waiting for input
+	 */
+	private void wakeUp()
+	{
+		if(thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+	
+	/**
+	 * Method that asks the game thread to draw the next frame in full
+	 */
+	private void requestRedraw()
+	{
+		redrawRequested = true;
+		wakeUp();
+	}
+	
+	/**
+	 * Called by Swing when the panel has to be painted, for example after it was covered
+	 * The game thread draws the frame, so only a full redraw is requested here
+	 * 
+	 * @param g (Graphics) not used
+	 */
+	protected void paintComponent(Graphics g)
+	{
+		requestRedraw();
+	}
+	
 	public void run()
 	{
 		running = true;
 		
-		image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
-		g = (Graphics2D) image.getGraphics();
+		startPresenter();
 		
-		//Add anti-aliasing
-		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		long updateNanos = 1000000000L / UPDATES_PER_SECOND;
+		long frameNanos = 1000000000L / targetFps;
+		long backgroundFrameNanos = 1000000000L / Math.min(targetFps, BACKGROUND_FPS);
 		
-		long startTime;
-		long URDTimeMillis;
-		long waitTime;
+		long nextUpdate = System.nanoTime();
+		long nextFrame = nextUpdate;
+		long nextSecond = nextUpdate + 1000000000L;
 		
 		int frameCount = 0;
-		int maxFrameCount = FPS;
-		long targetTime = 1000 / FPS;
+		int updateCount = 0;
+		
+		//Whether there has been an update since the last frame was drawn
+		boolean changed = false;
+		
+		//Whether the next frame has to be drawn in full
+		boolean fullRedraw = false;
 		
 		//Create running thread
 		while(running == true)
 		{
-			startTime = System.nanoTime();
+			long now = System.nanoTime();
+			long currentFrameNanos = (focused == true) ? frameNanos : backgroundFrameNanos;
 			
-			update();
-			draw();
-			drawToScreen();
+			if(redrawRequested == true)
+			{
+				redrawRequested = false;
+				fullRedraw = true;
+				changed = true;
+			}
 			
-			URDTimeMillis = (System.nanoTime() - startTime) / 1000000;
-			waitTime = targetTime - URDTimeMillis;
+			//Run every update that is due, without drawing in between when behind
+			int updates = 0;
+			while(now - nextUpdate >= 0 && updates < MAX_FRAME_SKIP)
+			{
+				update();
+				nextUpdate += updateNanos;
+				
+				++updates;
+				++updateCount;
+			}
 			
-			try{
-				Thread.sleep(waitTime);
-			}catch(Exception e){
+			if(updates > 0)
+			{
+				droppedFrames += updates - 1;
+				changed = true;
 				
+				//Too far behind to catch up: let the game slow down instead
+				if(now - nextUpdate >= 0)
+				{
+					droppedFrames += (now - nextUpdate) / updateNanos + 1;
+					nextUpdate = now + updateNanos;
+				}
 			}
 			
-			//Counting frame rate
-			frameCount++;
+			//Draw once per target frame, and only when something may have changed
+			if(changed == true && now - nextFrame >= 0)
+			{
+				//Nothing can be seen while the window is minimized
+				if(minimized == false)
+				{
+					draw(fullRedraw);
+					fullRedraw = false;
+					++frameCount;
+				}
+			
+				changed = false;
+			
+				nextFrame += currentFrameNanos;
+				if(now - nextFrame >= 0)
+				{
+					nextFrame = now + currentFrameNanos;
+				}
+			}
 			
-			if(frameCount == maxFrameCount)
+			//Counting frame rate
+			if(now - nextSecond >= 0)
 			{
+				fps = frameCount;
+				ups = updateCount;
 				frameCount = 0;
-			} 
+				updateCount = 0;
+				nextSecond += 1000000000L;
+			}
+			
+			//Nothing moves on its own: wait for input (or the timeout) instead of updating
+			if(onDemand == true && changed == false && redrawRequested == false && 
+					stateManager.isAnimating() == false && mouseManager.hasPendingEvents() == false)
+			{
+				LockSupport.parkNanos(this, IDLE_TIMEOUT_NANOS);
+				
+				//Start the schedule again from the moment the thread woke up
+				nextUpdate = System.nanoTime();
+				nextFrame = nextUpdate;
+				continue;
+			}
+			
+			if(changed == true && nextFrame - nextUpdate < 0)
+			{
+				waitUntil(nextFrame);
+			}
+			else
+			{
+				waitUntil(nextUpdate);
+			}
 		}
 	}
 	
 	/**
-	 * Method that updates GamePanel
+	 * Method that waits until System.nanoTime() reaches a deadline
+	 * Sleeps while the deadline is far away, since the scheduler can wake the thread late,
+	 * and spins for the last moment so the next update starts on time
+	 * 
+	 * @param deadline (long) time in nanoseconds to wait for
 	 */
-	private void update()
+	private void waitUntil(long deadline)
 	{
-		stateManager.update();
+		long remaining = deadline - System.nanoTime();
+		
+		while(remaining > SPIN_NANOS && running == true)
+		{
+			LockSupport.parkNanos(remaining - SPIN_NANOS);
+			
+			if(Thread.interrupted() == true)
+			{
+				running = false;
+				return;
+			}
+			
+			remaining = deadline - System.nanoTime();
+		}
+		
+		while(deadline - System.nanoTime() > 0)
+		{
+			Thread.onSpinWait();
+		}
 	}
 	
 	/**
-	 * Method that draws on GamePanel
+	 * Method that updates GamePanel
 	 */
-	private void draw()
+	private void update()
 	{
-		stateManager.draw(g);
+		//Take the mouse events posted since the last update
+		mouseManager.processEvents();
+		
+		stateManager.update();
 	}
 	
 	/**
-	 * Method for double buffering
+	 * Method that draws on GamePanel and shows the frame
+	 * Only the parts that changed are drawn when the Presenter keeps the last frame;
+	 * the whole frame is drawn again if the Presenter lost it before it could be shown
+	 * 
+	 * @param fullRedraw (boolean) true to draw the whole frame even if little changed
 	 */
-	private void drawToScreen()
+	private void draw(boolean fullRedraw)
 	{
-		Graphics g2 = this.getGraphics();
-		g2.drawImage(image, 0, 0,  null);
-		g2.dispose();
+		DirtyRegion dirtyRegion = stateManager.getDirtyRegion();
+		
+		if(dirtyRegion != null && (fullRedraw == true || presenter.isPersistent() == false))
+		{
+			dirtyRegion.addAll();
+		}
+		
+		while(true)
+		{
+			Graphics2D g = presenter.beginFrame();
+			stateManager.draw(g);
+			
+			if(presenter.endFrame(dirtyRegion) == true)
+			{
+				break;
+			}
+			
+			if(dirtyRegion != null)
+			{
+				dirtyRegion.addAll();
+			}
+		}
+
+		if(dirtyRegion != null)
+		{
+			dirtyRegion.clear();
+		}
 	}
 }
@@ -2,6 +2,9 @@ package main;
 
 import javax.swing.JFrame;
 
+import manager.ImageManager;
+import presenter.Presenter;
+
 /**
  * Main is the class that you run/execute in order to start the program
  *  
@@ -11,13 +14,23 @@ public class Main
 {
 	public static void main(String args[])
 	{
+		//Start loading images in the background while the window is created
+		ImageManager.instance();
+		
 		//Create window
 		JFrame window = new JFrame("Pig Dice Game");
 		window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 				
 		//Create GamePanel object
-		GamePanel gamePanel = new GamePanel();
+		//How frames are shown can be changed with -Dpig.presenter=<bufferstrategy|volatile|image>
+		GamePanel gamePanel = new GamePanel(System.getProperty("pig.presenter", Presenter.DEFAULT));
 				
+		//Frames per second can be changed with -Dpig.fps=<fps>
+		gamePanel.setTargetFps(Integer.getInteger("pig.fps", GamePanel.DEFAULT_FPS));
+		
+		//Frames are only drawn while something moves unless started with -Dpig.ondemand=false
+		gamePanel.setOnDemand(Boolean.parseBoolean(System.getProperty("pig.ondemand", "true")));
+		
 		//Place gamePanel in content pane
 		window.setContentPane(gamePanel);
 				
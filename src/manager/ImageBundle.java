@@ -0,0 +1,398 @@
+package manager;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * ImageBundle class stores the images of the game as uncompressed pixels in a
+ * single binary file, so they can be used without decoding PNG files
+ * 
+ * File layout (big-endian):
+ * - header: magic, version, number of images and offset of the index
+ * - index: one entry per image with its file name (ASCII, padded with zeros),
+ *   width, height and offset of its pixels
+ * - pixels: one ARGB int per pixel, row by row
+ * 
+ * The bundle is made from resources/images with
+ * "java -cp bin manager.ImageBundle resources/images" and has to be made again
+ * whenever an image changes
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class ImageBundle
+{
+	//Address of the bundle among the resources
+	public static final String ADDRESS = "/images/images.bundle";
+	
+	//Identifies an image bundle file ("PIGI")
+	private static final int MAGIC = 0x50494749;
+	
+	//Version of the file layout
+	private static final int VERSION = 1;
+	
+	//Size of the header in bytes
+	private static final int HEADER_SIZE = 16;
+	
+	//Size of the name of an image in the index in bytes
+	private static final int NAME_SIZE = 32;
+	
+	//Size of an entry of the index in bytes
+	private static final int ENTRY_SIZE = NAME_SIZE + 12;
+	
+	//Color model of the pixels in the file
+	private static final DirectColorModel COLOR_MODEL = (DirectColorModel) ColorModel.getRGBdefault();
+	
+	//The mapped file
+	private ByteBuffer buffer;
+	
+	//Number of images in the file
+	private int imageCount;
+	
+	//Position of the index in the file
+	private int indexOffset;
+	
+	/**
+	 * Constructor
+	 * @param buffer (ByteBuffer) the contents of an image bundle file
+	 * @throws IOException if the contents are not a valid image bundle
+	 */
+	private ImageBundle(ByteBuffer buffer) throws IOException
+	{
+		if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+		{
+			throw new IOException("Not an image bundle file");
+		}
+		
+		if(buffer.getInt(4) != VERSION)
+		{
+			throw new IOException("Unsupported image bundle version: " + buffer.getInt(4));
+		}
+		
+		this.buffer = buffer;
+		this.imageCount = buffer.getInt(8);
+		this.indexOffset = buffer.getInt(12);
+		
+		if(imageCount < 0 || indexOffset < HEADER_SIZE || buffer.capacity() < indexOffset + ((long) imageCount * ENTRY_SIZE))
+		{
+			throw new IOException("Image bundle file is truncated or corrupt");
+		}
+		
+		for(int i = 0; i < imageCount; i++)
+		{
+			int entry = indexOffset + (i * ENTRY_SIZE);
+			int width = buffer.getInt(entry + NAME_SIZE);
+			int height = buffer.getInt(entry + NAME_SIZE + 4);
+			int offset = buffer.getInt(entry + NAME_SIZE + 8);
+			
+			//The pixels have to fit in an int[] and lie inside the file after the header
+			if(width <= 0 || height <= 0 || offset < HEADER_SIZE ||
+					(long) width * height > Integer.MAX_VALUE / 4 ||
+					buffer.capacity() < offset + (4L * width * height))
+			{
+				throw new IOException("Image bundle file is truncated or corrupt");
+			}
+		}
+	}
+	
+	//Getter methods
+	public int getImageCount() {return imageCount;}
+	
+	/**
+	 * Method that opens the bundle among the resources of the game
+	 * The bundle is memory-mapped when the resources are plain files; inside a
+	 * JAR file it is read into memory instead
+	 *
+	 * @return the ImageBundle, or null if there is no bundle
+	 * @throws IOException if the bundle cannot be read or is not a valid image bundle
+	 */
+	public static ImageBundle open() throws IOException
+	{
+		URL url = ImageBundle.class.getResource(ADDRESS);
+		
+		if(url == null)
+		{
+			return null;
+		}
+		
+		if(url.getProtocol().equals("file"))
+		{
+			try
+			{
+				return load(Paths.get(url.toURI()));
+			}
+			catch(URISyntaxException e)
+			{
+				throw new IOException(e);
+			}
+		}
+		
+		try(InputStream input = url.openStream())
+		{
+			return new ImageBundle(ByteBuffer.wrap(input.readAllBytes()));
+		}
+	}
+	
+	/**
+	 * Method that memory-maps an image bundle file
+	 * Nothing is read until an image is obtained
+	 * @param path (Path) location of the file
+	 * @return the ImageBundle
+	 * @throws IOException if the file cannot be read or is not a valid image bundle
+	 */
+	public static ImageBundle load(Path path) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			
+			return new ImageBundle(buffer);
+		}
+	}
+	
+	/**
+	 * Method that writes every PNG file of a directory to an image bundle file
+	 * @param directory (Path) the directory with the PNG files
+	 * @param path (Path) location of the file
+	 * @return the number of images written
+	 * @throws IOException if an image cannot be read or the file cannot be written
+	 */
+	public static int write(Path directory, Path path) throws IOException
+	{
+		//Find the images, sorted so the same images always give the same file
+		List<Path> files = new ArrayList<Path>();
+		
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.png"))
+		{
+			for(Path file : stream)
+			{
+				files.add(file);
+			}
+		}
+		
+		Collections.sort(files);
+		
+		List<BufferedImage> images = new ArrayList<BufferedImage>();
+		long size = HEADER_SIZE + ((long) files.size() * ENTRY_SIZE);
+		
+		for(Path file : files)
+		{
+			BufferedImage image = ImageIO.read(file.toFile());
+			
+			if(image == null)
+			{
+				throw new IOException("Image could not be decoded: " + file);
+			}
+			
+			images.add(image);
+			size += 4L * image.getWidth() * image.getHeight();
+		}
+		
+		if(size > Integer.MAX_VALUE)
+		{
+			throw new IOException("Images are too large for an image bundle");
+		}
+		
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			
+			//Header
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, VERSION);
+			buffer.putInt(8, images.size());
+			buffer.putInt(12, HEADER_SIZE);
+			
+			int pixelsOffset = HEADER_SIZE + (images.size() * ENTRY_SIZE);
+			
+			for(int i = 0; i < images.size(); i++)
+			{
+				BufferedImage image = images.get(i);
+				int width = image.getWidth();
+				int height = image.getHeight();
+				
+				//Index entry
+				byte[] name = files.get(i).getFileName().toString().getBytes(StandardCharsets.US_ASCII);
+				
+				if(name.length > NAME_SIZE)
+				{
+					throw new IOException("Image name is too long: " + files.get(i));
+				}
+				
+				int entry = HEADER_SIZE + (i * ENTRY_SIZE);
+				buffer.duplicate().position(entry).put(name);
+				buffer.putInt(entry + NAME_SIZE, width);
+				buffer.putInt(entry + NAME_SIZE + 4, height);
+				buffer.putInt(entry + NAME_SIZE + 8, pixelsOffset);
+				
+				//Pixels
+				int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+				buffer.slice(pixelsOffset, pixels.length * 4).asIntBuffer().put(pixels);
+				
+				pixelsOffset += pixels.length * 4;
+			}
+			
+			buffer.force();
+		}
+		
+		return images.size();
+	}
+	
+	/**
+	 * Method that finds an image in the index
+	 * @param name (String) file name of the image
+	 * @return position of the entry of the image in the file, or -1 if there is no such image
+	 */
+	private int findEntry(String name)
+	{
+		byte[] bytes = name.getBytes(StandardCharsets.US_ASCII);
+		
+		if(bytes.length > NAME_SIZE)
+		{
+			return -1;
+		}
+		
+		for(int i = 0; i < imageCount; i++)
+		{
+			int entry = indexOffset + (i * ENTRY_SIZE);
+			boolean matches = true;
+			
+			for(int j = 0; j < NAME_SIZE && matches; j++)
+			{
+				byte expected = (j < bytes.length) ? bytes[j] : 0;
+				matches = (buffer.get(entry + j) == expected);
+			}
+			
+			if(matches)
+			{
+				return entry;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Method that obtains an image of the bundle
+	 * The pixels are copied out of the file in one go and wrapped into a
+	 * BufferedImage of type TYPE_INT_ARGB without any conversion
+	 *
+	 * @param name (String) file name of the image, e.g. "DiceSheet.png"
+	 * @return the BufferedImage, or null if the bundle has no such image
+	 */
+	public BufferedImage getImage(String name)
+	{
+		int entry = findEntry(name);
+		
+		if(entry < 0)
+		{
+			return null;
+		}
+		
+		int width = buffer.getInt(entry + NAME_SIZE);
+		int height = buffer.getInt(entry + NAME_SIZE + 4);
+		int offset = buffer.getInt(entry + NAME_SIZE + 8);
+		
+		int[] pixels = new int[width * height];
+		buffer.slice(offset, pixels.length * 4).asIntBuffer().get(pixels);
+		
+		WritableRaster raster = Raster.createPackedRaster(new DataBufferInt(pixels, pixels.length), width, height, width,
+				COLOR_MODEL.getMasks(), null);
+		
+		return new BufferedImage(COLOR_MODEL, raster, false, null);
+	}
+	
+	/**
+	 * Writes the image bundle of a directory and compares reading it with decoding the PNG files
+	 * Arguments: directory [file]
+	 * The file defaults to images.bundle inside the directory
+	 *
+	 * @param args command line arguments
+	 * @throws IOException if an image or the file cannot be read or written
+	 */
+	public static void main(String args[]) throws IOException
+	{
+		Path directory = Paths.get(args[0]);
+		Path path = (args.length > 1) ? Paths.get(args[1]) : directory.resolve("images.bundle");
+		
+		int count = write(directory, path);
+		
+		//Decode the PNG files and read the same images from the bundle
+		List<String> names = new ArrayList<String>();
+		
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.png"))
+		{
+			for(Path file : stream)
+			{
+				names.add(file.getFileName().toString());
+			}
+		}
+		
+		List<BufferedImage> decoded = new ArrayList<BufferedImage>();
+		long startTime = System.nanoTime();
+		
+		for(String name : names)
+		{
+			decoded.add(ImageIO.read(directory.resolve(name).toFile()));
+		}
+		
+		long pngNanos = System.nanoTime() - startTime;
+		
+		List<BufferedImage> read = new ArrayList<BufferedImage>();
+		startTime = System.nanoTime();
+		
+		ImageBundle bundle = load(path);
+		
+		for(String name : names)
+		{
+			read.add(bundle.getImage(name));
+		}
+		
+		long bundleNanos = System.nanoTime() - startTime;
+		
+		//Compare the pixels
+		int mismatches = 0;
+		
+		for(int i = 0; i < names.size(); i++)
+		{
+			BufferedImage png = decoded.get(i);
+			BufferedImage image = read.get(i);
+			
+			int[] expected = png.getRGB(0, 0, png.getWidth(), png.getHeight(), null, 0, png.getWidth());
+			int[] actual = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+			
+			if(Arrays.equals(expected, actual) == false)
+			{
+				++mismatches;
+			}
+		}
+		
+		System.out.printf("Wrote %s: %d images, %,d bytes%n", path, count, path.toFile().length());
+		System.out.printf("PNG decode time:  %.3f ms%n", pngNanos / 1000000.0);
+		System.out.printf("Bundle read time: %.3f ms%n", bundleNanos / 1000000.0);
+		System.out.printf("Mismatches:       %d%n", mismatches);
+	}
+}
@@ -1,12 +1,38 @@
 package manager;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import javax.imageio.ImageIO;
 
 /**
  * ImageManager class attempts to load images files and keeps track 
  * of them
  * 
+ * Every image is copied out of its image sheet into an image in the same format
+ * as the screen with the least transparency it needs. Such images can be cached in
+ * video memory by Java2D and are drawn without conversion, and the pixels of
+ * each image are stored together instead of spread over the rows of the sheet
+ * 
+ * The sheets are decoded at the same time on background threads as soon as the
+ * ImageManager is created. Getters wait until the images of their sheet are
+ * loaded; isLoaded(), isButtonsLoaded() and onLoaded() allow a State to show
+ * something else in the meantime. A sheet that can not be loaded is replaced
+ * by placeholder images
+ * 
+ * When the resources contain an ImageBundle the sheets are read from it
+ * instead of decoding the PNG files
+ * 
  * @author Vachia Thoj
  *
  */
@@ -15,10 +41,28 @@ public class ImageManager
 	//For singleton
 	private static ImageManager imageManager;
 	
-	//Stores image sheets
-	private BufferedImage diceSheet;
-	private BufferedImage buttonSheet;
-	private BufferedImage optionsSheet;
+	//Addresses of the image sheets
+	private static final String DICE_SHEET = "/images/DiceSheet.png";
+	private static final String BUTTON_SHEET = "/images/ButtonSheet.png";
+	private static final String OPTIONS_SHEET = "/images/OptionsSheet.png";
+	
+	//Uncompressed image sheets, null if there is no bundle
+	private ImageBundle bundle;
+	
+	//Complete once the images of each sheet have been loaded or replaced by placeholders
+	private CompletableFuture<Void> diceLoaded;
+	private CompletableFuture<Void> buttonsLoaded;
+	private CompletableFuture<Void> optionsLoaded;
+	
+	//Completes once every image has been loaded or replaced by a placeholder
+	private CompletableFuture<Void> loaded;
+	
+	//Message of the last error while loading, null if there was none
+	private volatile String loadError;
+	
+	//Colors of placeholder images
+	private static final Color PLACEHOLDER_COLOR = new Color(220, 220, 220);
+	private static final Color PLACEHOLDER_BORDER_COLOR = new Color(120, 120, 120);
 	
 	//Stores dice images
 	private BufferedImage[] whiteDice;
@@ -44,15 +88,22 @@ public class ImageManager
 		
 		this.options = new BufferedImage[10];
 		
-		//Load image sheets
-		this.diceSheet = loadImage("/images/DiceSheet.png");
-		this.buttonSheet = loadImage("/images/ButtonSheet.png");
-		this.optionsSheet = loadImage("/images/OptionsSheet.png");
+		this.bundle = openBundle();
+		
+		//One thread per image sheet, they do not keep the program running
+		ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+			Thread thread = new Thread(runnable, "ImageManager");
+			thread.setDaemon(true);
+			return thread;
+		});
 		
-		//Obtain subImages from image sheets
-		loadDiceImages();
-		loadButtonImages();
-		loadOptionsImages();
+		//Decode the image sheets at the same time and obtain subImages from each one when it is ready
+		this.diceLoaded = loadSheet(DICE_SHEET, this::loadDiceImages, executor);
+		this.buttonsLoaded = loadSheet(BUTTON_SHEET, this::loadButtonImages, executor);
+		this.optionsLoaded = loadSheet(OPTIONS_SHEET, this::loadOptionsImages, executor);
+		
+		this.loaded = CompletableFuture.allOf(diceLoaded, buttonsLoaded, optionsLoaded);
+		this.loaded.whenComplete((result, error) -> executor.shutdown());
 	}
 	
 	/**
@@ -68,64 +119,255 @@ public class ImageManager
 		return imageManager;
 	}
 	
-	//Getter methods
-	public BufferedImage[] getWhiteDice() {return whiteDice;}
-	public BufferedImage[] getBlackDice() {return blackDice;}
-	public BufferedImage[] getRedDice() {return redDice;}
-	public BufferedImage[] getButtons() {return buttons;}
-	public BufferedImage[] getOptions() {return options;}
+	//Getter methods (wait until the images of the sheet are loaded)
+	public BufferedImage[] getWhiteDice() {diceLoaded.join(); return whiteDice;}
+	public BufferedImage[] getBlackDice() {diceLoaded.join(); return blackDice;}
+	public BufferedImage[] getRedDice() {diceLoaded.join(); return redDice;}
+	public BufferedImage[] getButtons() {buttonsLoaded.join(); return buttons;}
+	public BufferedImage[] getOptions() {optionsLoaded.join(); return options;}
+	public String getLoadError() {return loadError;}
+	
+	/**
+	 * Method that tells if every image has been loaded
+	 * @return true if the getters can be called without waiting, otherwise false
+	 */
+	public boolean isLoaded()
+	{
+		return loaded.isDone();
+	}
+	
+	/**
+	 * Method that tells if the button images have been loaded
+	 * @return true if getButtons() can be called without waiting, otherwise false
+	 */
+	public boolean isButtonsLoaded()
+	{
+		return buttonsLoaded.isDone();
+	}
+	
+	/**
+	 * Method that runs an action once every image has been loaded
+	 * The action runs right away on the calling thread if they already are,
+	 * otherwise on the thread that loaded the last image sheet
+	 * 
+	 * @param action (Runnable) the action to run
+	 */
+	public void onLoaded(Runnable action)
+	{
+		loaded.thenRun(action);
+	}
+	
+	/**
+	 * Method that decodes an image sheet in the background and obtains its images
+	 * If anything goes wrong the images of the sheet are replaced by placeholders,
+	 * so the returned future never completes with an error
+	 * 
+	 * @param address (String) address of the image sheet
+	 * @param loadImages (Consumer) obtains the images from the sheet, or placeholders from null
+	 * @param executor (Executor) runs the decoding
+	 * @return future that completes once the images of the sheet are ready
+	 */
+	private CompletableFuture<Void> loadSheet(String address, Consumer<BufferedImage> loadImages, Executor executor)
+	{
+		return CompletableFuture.supplyAsync(() -> loadImage(address), executor)
+				.thenAccept(loadImages)
+				.exceptionally(error -> {
+					error.printStackTrace();
+					loadError = "Error loading graphics: " + address;
+					
+					loadImages.accept(null);
+					return null;
+				});
+	}
+	
+	/**
+	 * Method that creates an image in the same format as the screen, so drawing it
+	 * on the screen needs no conversion
+	 * Without a screen (headless) a plain BufferedImage is created instead
+	 * 
+	 * @param width (integer) width of the image
+	 * @param height (integer) height of the image
+	 * @param transparency (integer) Transparency.OPAQUE, Transparency.BITMASK or Transparency.TRANSLUCENT
+	 * @return the BufferedImage
+	 */
+	public static BufferedImage createCompatibleImage(int width, int height, int transparency)
+	{
+		if(GraphicsEnvironment.isHeadless() == false)
+		{
+			GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDefaultConfiguration();
+			
+			return gc.createCompatibleImage(width, height, transparency);
+		}
+		
+		return new BufferedImage(width, height, 
+				(transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+	}
+	
+	/**
+	 * Method that copies part of an image sheet into its own compatible image
+	 * @param sheet (BufferedImage) the image sheet
+	 * @param x (integer) x-coordinate of the image in the sheet
+	 * @param y (integer) y-coordinate of the image in the sheet
+	 * @param width (integer) width of the image
+	 * @param height (integer) height of the image
+	 * @return the compatible image
+	 */
+	private static BufferedImage copyImage(BufferedImage sheet, int x, int y, int width, int height)
+	{
+		//The sheet could not be loaded
+		if(sheet == null)
+		{
+			return createPlaceholder(width, height);
+		}
+		
+		int[] pixels = sheet.getRGB(x, y, width, height, null, 0, width);
+		
+		BufferedImage image = createCompatibleImage(width, height, getTransparency(pixels));
+		image.setRGB(0, 0, width, height, pixels, 0, width);
+		
+		return image;
+	}
+	
+	/**
+	 * Method that creates a plain image to show in place of an image that could not be loaded
+	 * @param width (integer) width of the image
+	 * @param height (integer) height of the image
+	 * @return the placeholder image
+	 */
+	private static BufferedImage createPlaceholder(int width, int height)
+	{
+		BufferedImage image = createCompatibleImage(width, height, Transparency.OPAQUE);
+		
+		Graphics2D g = image.createGraphics();
+		g.setColor(PLACEHOLDER_COLOR);
+		g.fillRect(0, 0, width, height);
+		g.setColor(PLACEHOLDER_BORDER_COLOR);
+		g.drawRect(0, 0, width - 1, height - 1);
+		g.dispose();
+		
+		return image;
+	}
+	
+	/**
+	 * Method that finds the least transparency needed by ARGB pixels
+	 * @param pixels (int[]) the pixels
+	 * @return Transparency.OPAQUE, Transparency.BITMASK or Transparency.TRANSLUCENT
+	 */
+	private static int getTransparency(int[] pixels)
+	{
+		int transparency = Transparency.OPAQUE;
+		
+		for(int i = 0; i < pixels.length; i++)
+		{
+			int alpha = pixels[i] >>> 24;
+			
+			if(alpha == 0)
+			{
+				transparency = Transparency.BITMASK;
+			}
+			else if(alpha != 255)
+			{
+				return Transparency.TRANSLUCENT;
+			}
+		}
+		
+		return transparency;
+	}
+	
+	/**
+	 * Method that opens the ImageBundle of the resources
+	 * @return the ImageBundle, or null if there is none or it can not be read
+	 */
+	private static ImageBundle openBundle()
+	{
+		try
+		{
+			return ImageBundle.open();
+		}
+		catch(Exception e)
+		{
+			//The PNG files are used instead
+			e.printStackTrace();
+			return null;
+		}
+	}
 	
 	/**
 	 * Method that attempts to open an image file
+	 * The image is taken from the ImageBundle when it contains the file
 	 * 
 	 * @param address String of address location of image file
-	 * @return The BufferedImage of image opened
+	 * @return The BufferedImage of image opened, or null if it could not be opened
 	 */
 	private BufferedImage loadImage(String address)
 	{
-		BufferedImage imageSheet = null;
+		if(bundle != null)
+		{
+			BufferedImage image = bundle.getImage(address.substring(address.lastIndexOf('/') + 1));
+			
+			if(image != null)
+			{
+				return image;
+			}
+		}
 		
 		//Obtain images
-        try{
-            //Obtain image sheet from the image address
-            imageSheet = ImageIO.read(getClass().getResourceAsStream(address));
-            
-            return imageSheet;
+		try(InputStream input = getClass().getResourceAsStream(address))
+		{
+			if(input == null)
+			{
+				throw new IOException("Image not found: " + address);
+			}
+		
+			//Obtain image sheet from the image address
+			BufferedImage imageSheet = ImageIO.read(input);
+			
+			if(imageSheet == null)
+			{
+				throw new IOException("Image could not be decoded: " + address);
+			}
             
-        }catch(Exception e){
-            e.printStackTrace();
-            System.out.println("Error loading graphics");
-            System.exit(0);
-        }
+			return imageSheet;
+		}
+		catch(Exception e)
+		{
+			e.printStackTrace();
+			System.out.println("Error loading graphics");
+			
+			loadError = "Error loading graphics: " + address;
+		}
         
-        return null;
+		return null;
 	}
 	
 	/**
 	 * Method that obtains subimages from diceSheet image
+	 * @param diceSheet (BufferedImage) the image sheet, or null if it could not be loaded
 	 */
-	private void loadDiceImages()
+	private void loadDiceImages(BufferedImage diceSheet)
 	{
 		for(int i = 0; i < 6; i++)
 		{
-			whiteDice[i] = diceSheet.getSubimage(i * 100, 0, 100, 100);
+			whiteDice[i] = copyImage(diceSheet, i * 100, 0, 100, 100);
 		}
 		
 		for(int i = 0; i < 6; i++)
 		{
-			blackDice[i] = diceSheet.getSubimage(i * 100, 100, 100, 100);
+			blackDice[i] = copyImage(diceSheet, i * 100, 100, 100, 100);
 		}
 		
 		for(int i = 0; i < 6; i++)
 		{
-			redDice[i] = diceSheet.getSubimage(i * 100, 200, 100, 100);
+			redDice[i] = copyImage(diceSheet, i * 100, 200, 100, 100);
 		}
 	}
 	
 	/**
 	 * Method that obtain subimages from buttonSheet image
+	 * @param buttonSheet (BufferedImage) the image sheet, or null if it could not be loaded
 	 */
-	private void loadButtonImages()
+	private void loadButtonImages(BufferedImage buttonSheet)
 	{
 		int index = 0;
 		
@@ -133,34 +375,35 @@ public class ImageManager
 		{
 			for(int j = 0; j < 4; j++)
 			{
-				buttons[index] = buttonSheet.getSubimage(j * 200, i * 50, 200, 50);
+				buttons[index] = copyImage(buttonSheet, j * 200, i * 50, 200, 50);
 				++index;
 			}
 		}
 		
 		for(int i = 0; i < 4; i++)
 		{
-			buttons[index] = buttonSheet.getSubimage(i * 150, 100, 150, 50);
+			buttons[index] = copyImage(buttonSheet, i * 150, 100, 150, 50);
 			++index;
 		}
 	}
 	
 	/**
 	 * Method that obtains subimages from optionSheet images
+	 * @param optionsSheet (BufferedImage) the image sheet, or null if it could not be loaded
 	 */
-	private void loadOptionsImages()
+	private void loadOptionsImages(BufferedImage optionsSheet)
 	{
 		int index = 0;
 		
 		for(int i = 0; i < 6; i++)
 		{
-			options[index] = optionsSheet.getSubimage(i * 100, 0, 100, 32);
+			options[index] = copyImage(optionsSheet, i * 100, 0, 100, 32);
 			++index;
 		}
 		
 		for(int i = 0; i < 4; i++)
 		{ 
-			options[index] = optionsSheet.getSubimage(i * 100, 32, 100, 32);
+			options[index] = copyImage(optionsSheet, i * 100, 32, 100, 32);
 			++index;
 		}
 	}
@@ -0,0 +1,254 @@
+package manager;
+
+import java.util.Arrays;
+
+import button.Button;
+import entity.Point;
+import helper.Collision;
+
+/**
+ * InputDispatcher class finds which Button the mouse is on and tells that
+ * Button, so Buttons no longer check the mouse themselves
+ * 
+ * Registered Buttons are kept in a uniform grid of square cells over the
+ * screen: each cell lists the Buttons that overlap it, so a point is resolved
+ * by looking at one cell instead of every Button. When Buttons overlap, the one
+ * registered last wins, so each event goes to at most one Button
+ * 
+ * update() is called once per update after MouseManager.processEvents(). The
+ * Button under the mouse is told when the mouse enters and leaves it, and a
+ * click (pressed and released on the same Button) is given to that Button only.
+ * The pressed and released Points are cleared once the click has been handled,
+ * so the order of the Buttons does not matter
+ * 
+ * Disabled and invisible Buttons are skipped. A Button that moves has to be
+ * registered again
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class InputDispatcher 
+{
+	//Default width and height of a cell in pixels
+	public static final int DEFAULT_CELL_SIZE = 64;
+	
+	//To obtain mouse events
+	private MouseManager mouseManager;
+	
+	//Size of a cell and number of cells across and down
+	private int cellSize;
+	private int columns;
+	private int rows;
+	
+	//Buttons overlapping each cell (row by row) and how many there are
+	private Button[][] cells;
+	private int[] cellCounts;
+	
+	//Button the mouse is on, null if none
+	private Button hoveredButton;
+	
+	/**
+	 * Constructor
+	 * @param width (integer) width of the screen
+	 * @param height (integer) height of the screen
+	 * @param cellSize (integer) width and height of a cell
+	 */
+	public InputDispatcher(int width, int height, int cellSize)
+	{
+		this.mouseManager = MouseManager.instance();
+		
+		this.cellSize = cellSize;
+		this.columns = (width + cellSize - 1) / cellSize;
+		this.rows = (height + cellSize - 1) / cellSize;
+		
+		this.cells = new Button[columns * rows][];
+		this.cellCounts = new int[columns * rows];
+		
+		this.hoveredButton = null;
+	}
+	
+	/**
+	 * Constructor
+	 * @param width (integer) width of the screen
+	 * @param height (integer) height of the screen
+	 */
+	public InputDispatcher(int width, int height)
+	{
+		this(width, height, DEFAULT_CELL_SIZE);
+	}
+	
+	//Getter methods
+	public Button getHoveredButton() {return hoveredButton;}
+	
+	/**
+	 * Method that adds a Button to every cell its bounds overlap
+	 * The Button is drawn on top of the Buttons registered before it
+	 * 
+	 * @param button (Button) the Button
+	 */
+	public void register(Button button)
+	{
+		int firstColumn = Math.max(button.getX() / cellSize, 0);
+		int lastColumn = Math.min((button.getX() + button.getWidth()) / cellSize, columns - 1);
+		int firstRow = Math.max(button.getY() / cellSize, 0);
+		int lastRow = Math.min((button.getY() + button.getHeight()) / cellSize, rows - 1);
+		
+		for(int row = firstRow; row <= lastRow; row++)
+		{
+			for(int column = firstColumn; column <= lastColumn; column++)
+			{
+				int cell = (row * columns) + column;
+				
+				if(cells[cell] == null)
+				{
+					cells[cell] = new Button[2];
+				}
+				else if(cellCounts[cell] == cells[cell].length)
+				{
+					cells[cell] = Arrays.copyOf(cells[cell], cells[cell].length * 2);
+				}
+				
+				cells[cell][cellCounts[cell]] = button;
+				++cellCounts[cell];
+			}
+		}
+		
+		//The new Button may be under the mouse already
+		updateHover();
+	}
+	
+	/**
+	 * Method that removes a Button from every cell
+	 * @param button (Button) the Button
+	 */
+	public void unregister(Button button)
+	{
+		for(int cell = 0; cell < cells.length; cell++)
+		{
+			for(int i = 0; i < cellCounts[cell]; i++)
+			{
+				if(cells[cell][i] == button)
+				{
+					//Keep the order of the others
+					System.arraycopy(cells[cell], i + 1, cells[cell], i, cellCounts[cell] - i - 1);
+					--cellCounts[cell];
+					cells[cell][cellCounts[cell]] = null;
+					break;
+				}
+			}
+		}
+		
+		if(hoveredButton == button)
+		{
+			hoveredButton.setMouseTouchingButton(false);
+			hoveredButton = null;
+		}
+		
+		updateHover();
+	}
+	
+	/**
+	 * Method that finds the Button at a point
+	 * @param x (integer) x-coordinate of the point
+	 * @param y (integer) y-coordinate of the point
+	 * @return the enabled, visible Button on top at the point, or null if there is none
+	 */
+	public Button hitTest(int x, int y)
+	{
+		if(x < 0 || y < 0)
+		{
+			return null;
+		}
+		
+		int column = x / cellSize;
+		int row = y / cellSize;
+		
+		if(column >= columns || row >= rows)
+		{
+			return null;
+		}
+		
+		int cell = (row * columns) + column;
+		
+		//Last registered first
+		for(int i = cellCounts[cell] - 1; i >= 0; i--)
+		{
+			Button button = cells[cell][i];
+			
+			if(button.isDisabled() == false && button.isVisible() && 
+					Collision.pointEntityCollision(x, y, button))
+			{
+				return button;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Method that finds the Button at a point
+	 * @param point (Point) the point, or null
+	 * @return the Button on top at the point, or null if there is none
+	 */
+	private Button hitTest(Point point)
+	{
+		return (point != null) ? hitTest(point.getX(), point.getY()) : null;
+	}
+	
+	/**
+	 * Method that tells the Buttons the mouse left and entered
+	 * Done every update, so a Button that is enabled or shown again under the
+	 * mouse is found without the mouse moving
+	 */
+	private void updateHover()
+	{
+		Button button = hitTest(mouseManager.getCurrentPoint());
+		
+		if(button != hoveredButton)
+		{
+			if(hoveredButton != null)
+			{
+				hoveredButton.setMouseTouchingButton(false);
+			}
+			
+			if(button != null)
+			{
+				button.setMouseTouchingButton(true);
+			}
+			
+			hoveredButton = button;
+		}
+	}
+	
+	/**
+	 * Method that gives a click to the Button it was pressed and released on
+	 */
+	private void dispatchClick()
+	{
+		if(mouseManager.isMouseReleased() == false || 
+				mouseManager.getPressedPoint() == null || mouseManager.getReleasedPoint() == null)
+		{
+			return;
+		}
+		
+		Button button = hitTest(mouseManager.getReleasedPoint());
+		
+		if(button != null && button == hitTest(mouseManager.getPressedPoint()))
+		{
+			button.setMouseClickingButton(true);
+		}
+		
+		//The click has been handled, whether a Button got it or not
+		mouseManager.clearPressedPoint();
+		mouseManager.clearReleasedPoint();
+	}
+	
+	/**
+	 * Method that gives the mouse events of this update to the Buttons
+	 */
+	public void update()
+	{
+		updateHover();
+		dispatchClick();
+	}
+}
@@ -0,0 +1,164 @@
+package manager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InputQueue class passes mouse events from the thread that receives them
+ * (the event dispatch thread) to the game thread without locks
+ * 
+ * Presses and releases go through a ring buffer of primitive events with one
+ * producer and one consumer, so none of them is lost or reordered. Each event
+ * is packed into a long: the type in the top byte, then x and y as signed
+ * 24-bit numbers. Mouse motion is not queued: only the latest position is kept,
+ * so moving the mouse never fills the buffer
+ * 
+ * The producer writes an event and then publishes it with a release write of
+ * the tail; the consumer reads the tail with an acquire read before reading the
+ * event, and frees the slot with a release write of the head. Nothing is
+ * allocated by either side
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class InputQueue 
+{
+	//Types of event
+	public static final int NONE = 0;
+	public static final int PRESSED = 1;
+	public static final int RELEASED = 2;
+	
+	//Returned by poll() and getMotion() when there is nothing to read
+	public static final long EMPTY = 0;
+	
+	//Default number of events that can wait in the buffer
+	public static final int DEFAULT_CAPACITY = 1024;
+	
+	//Mask of a 24-bit coordinate
+	private static final long COORDINATE_MASK = 0xFFFFFFL;
+	
+	//The ring buffer, its length is a power of two
+	private long[] events;
+	private int mask;
+	
+	//Number of events ever written (tail) and read (head)
+	private AtomicLong tail;
+	private AtomicLong head;
+	
+	//Latest mouse position as a packed event, EMPTY before the mouse has moved
+	private AtomicLong motion;
+	
+	//Number of events that did not fit in the buffer
+	private AtomicLong droppedEvents;
+	
+	/**
+	 * Constructor
+	 * @param capacity (integer) number of events that can wait, rounded up to a power of two
+	 */
+	public InputQueue(int capacity)
+	{
+		int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		
+		this.events = new long[length];
+		this.mask = length - 1;
+		
+		this.tail = new AtomicLong(0);
+		this.head = new AtomicLong(0);
+		this.motion = new AtomicLong(EMPTY);
+		this.droppedEvents = new AtomicLong(0);
+	}
+	
+	//Getter methods
+	public int getCapacity() {return events.length;}
+	public long getDroppedEvents() {return droppedEvents.get();}
+	
+	/**
+	 * Method that packs an event into a long
+	 * @param type (integer) PRESSED or RELEASED (or NONE for a position)
+	 * @param x (integer) x-coordinate
+	 * @param y (integer) y-coordinate
+	 * @return the packed event, never EMPTY
+	 */
+	public static long pack(int type, int x, int y)
+	{
+		//Bit 55 is always set so even a position at (0, 0) is not EMPTY
+		return ((long) type << 56) | (1L << 55) | ((x & COORDINATE_MASK) << 24) | (y & COORDINATE_MASK);
+	}
+	
+	//Methods that unpack an event
+	public static int getType(long event) {return (int) (event >>> 56);}
+	public static int getX(long event) {return ((int) (event >>> 24) << 8) >> 8;}
+	public static int getY(long event) {return ((int) event << 8) >> 8;}
+	
+	/**
+	 * Method that adds an event (producer thread only)
+	 * The event is dropped and counted if the buffer is full, which only happens
+	 * if the consumer stops reading
+	 * 
+	 * @param type (integer) PRESSED or RELEASED
+	 * @param x (integer) x-coordinate
+	 * @param y (integer) y-coordinate
+	 * @return true if the event was added, false if the buffer was full
+	 */
+	public boolean offer(int type, int x, int y)
+	{
+		long t = tail.get();
+		
+		if(t - head.getAcquire() >= events.length)
+		{
+			droppedEvents.incrementAndGet();
+			return false;
+		}
+		
+		events[(int) (t & mask)] = pack(type, x, y);
+		tail.setRelease(t + 1);
+		
+		return true;
+	}
+	
+	/**
+	 * Method that sets the latest mouse position (producer thread only)
+	 * @param x (integer) x-coordinate
+	 * @param y (integer) y-coordinate
+	 */
+	public void setMotion(int x, int y)
+	{
+		motion.setRelease(pack(NONE, x, y));
+	}
+	
+	/**
+	 * Method that gives the latest mouse position
+	 * @return the position as a packed event, or EMPTY if the mouse has not moved
+	 */
+	public long getMotion()
+	{
+		return motion.getAcquire();
+	}
+	
+	/**
+	 * Method that takes the oldest event (consumer thread only)
+	 * @return the packed event, or EMPTY if there is none
+	 */
+	public long poll()
+	{
+		long h = head.get();
+		
+		if(h == tail.getAcquire())
+		{
+			return EMPTY;
+		}
+		
+		long event = events[(int) (h & mask)];
+		head.setRelease(h + 1);
+		
+		return event;
+	}
+	
+	/**
+	 * Method that tells if events are waiting
+	 * @return true if poll() would return an event, otherwise false
+	 */
+	public boolean isEmpty()
+	{
+		return head.get() == tail.getAcquire();
+	}
+}
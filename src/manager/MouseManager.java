@@ -4,6 +4,15 @@ import entity.Point;
 /**
  * MouseManager class keeps track and manages the mouses actions
  * 
+ * Mouse events arrive on the event dispatch thread and are posted to an
+ * InputQueue. The game thread takes them out once per update with
+ * processEvents(), so every other method is only used by the game thread and
+ * needs no synchronization
+ * 
+ * At most one click (press and release) is taken per update, so a second click
+ * cannot overwrite the Points of the first one before the buttons have seen it;
+ * the events after it wait for the next update
+ * 
  * @author Vachia Thoj
  *
  */
@@ -12,6 +21,9 @@ public class MouseManager
 	//For singleton
 	private static MouseManager mouseManager;
 	
+	//Events posted by the event dispatch thread
+	private InputQueue inputQueue;
+	
 	//Location that the mouse pressed
 	private Point pressedPoint;
 	
@@ -21,6 +33,14 @@ public class MouseManager
 	//Current location of mouse
 	private Point currentPoint;
 	
+	//Flags to see if each Point holds a location (the Points are reused, never replaced)
+	private boolean hasPressedPoint;
+	private boolean hasReleasedPoint;
+	private boolean hasCurrentPoint;
+	
+	//Latest mouse position taken from the InputQueue
+	private long lastMotion;
+	
 	//Flags to see of mouse has been pressed or released
 	private boolean mousePressed;
 	private boolean mouseReleased;
@@ -30,9 +50,17 @@ public class MouseManager
 	 */
 	private MouseManager()
 	{
-		this.pressedPoint = null;
-		this.releasedPoint = null;
-		this.currentPoint = null;
+		this.inputQueue = new InputQueue(InputQueue.DEFAULT_CAPACITY);
+		
+		this.pressedPoint = new Point();
+		this.releasedPoint = new Point();
+		this.currentPoint = new Point();
+		
+		this.hasPressedPoint = false;
+		this.hasReleasedPoint = false;
+		this.hasCurrentPoint = false;
+		
+		this.lastMotion = InputQueue.EMPTY;
 		
 		this.mousePressed = false;
 		this.mouseReleased = false;
@@ -53,20 +81,75 @@ public class MouseManager
 	}
 	
 	//Getter methods
-	public Point getPressedPoint() {return pressedPoint;}
-	public Point getReleasedPoint() {return releasedPoint;}
-	public Point getCurrentPoint() {return currentPoint;}
+	public Point getPressedPoint() {return hasPressedPoint ? pressedPoint : null;}
+	public Point getReleasedPoint() {return hasReleasedPoint ? releasedPoint : null;}
+	public Point getCurrentPoint() {return hasCurrentPoint ? currentPoint : null;}
 	public boolean isMousePressed() {return mousePressed;}
 	public boolean isMouseReleased() {return mouseReleased;}
+	public long getDroppedEvents() {return inputQueue.getDroppedEvents();}
 	
-	//Setter methods
-	public void setPressedPoint(int mouseX, int mouseY) {pressedPoint = new Point(mouseX, mouseY);}
-	public void setReleasedPoint(int mouseX, int mouseY) {releasedPoint = new Point(mouseX, mouseY);}
-	public void setCurrentPoint(int mouseX, int mouseY) {currentPoint = new Point(mouseX, mouseY);}
+	//Setter methods (game thread only)
+	public void setPressedPoint(int mouseX, int mouseY) {pressedPoint.setPoint(mouseX, mouseY); hasPressedPoint = true;}
+	public void setReleasedPoint(int mouseX, int mouseY) {releasedPoint.setPoint(mouseX, mouseY); hasReleasedPoint = true;}
+	public void setCurrentPoint(int mouseX, int mouseY) {currentPoint.setPoint(mouseX, mouseY); hasCurrentPoint = true;}
 	public void setMousePressed(boolean b) {mousePressed = b;}
 	public void setMouseReleased(boolean b) {mouseReleased = b;}
 	
-	public void clearPressedPoint() {pressedPoint = null;}
-	public void clearReleasedPoint() {releasedPoint = null;}
-	public void clearCurrentPoint() {currentPoint = null;}
-}
\ No newline at end of file
+	public void clearPressedPoint() {hasPressedPoint = false;}
+	public void clearReleasedPoint() {hasReleasedPoint = false;}
+	public void clearCurrentPoint() {hasCurrentPoint = false;}
+	
+	//Methods that post mouse events (event dispatch thread only)
+	public void postMousePressed(int mouseX, int mouseY) {inputQueue.offer(InputQueue.PRESSED, mouseX, mouseY);}
+	public void postMouseReleased(int mouseX, int mouseY) {inputQueue.offer(InputQueue.RELEASED, mouseX, mouseY);}
+	public void postMouseMoved(int mouseX, int mouseY) {inputQueue.setMotion(mouseX, mouseY);}
+	
+	/**
+	 * Method that tells if posted presses or releases are waiting to be processed
+	 * @return true if processEvents() has events left to take, otherwise false
+	 */
+	public boolean hasPendingEvents()
+	{
+		return inputQueue.isEmpty() == false;
+	}
+	
+	/**
+	 * Method that takes the posted mouse events (game thread only, once per update)
+	 * The current Point moves to the latest mouse position, then presses and
+	 * releases are taken in order up to and including the first release
+	 */
+	public void processEvents()
+	{
+		//Mouse motion
+		long motion = inputQueue.getMotion();
+		if(motion != lastMotion)
+		{
+			lastMotion = motion;
+			setCurrentPoint(InputQueue.getX(motion), InputQueue.getY(motion));
+		}
+		
+		//Presses and releases
+		long event;
+		while((event = inputQueue.poll()) != InputQueue.EMPTY)
+		{
+			int mouseX = InputQueue.getX(event);
+			int mouseY = InputQueue.getY(event);
+			
+			if(InputQueue.getType(event) == InputQueue.PRESSED)
+			{
+				setPressedPoint(mouseX, mouseY);
+				mousePressed = true;
+				mouseReleased = false;
+			}
+			else
+			{
+				setReleasedPoint(mouseX, mouseY);
+				mouseReleased = true;
+				mousePressed = false;
+				
+				//Leave the next click for the next update
+				break;
+			}
+		}
+	}
+}
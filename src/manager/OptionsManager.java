@@ -2,6 +2,8 @@ package manager;
 
 import java.awt.Color;
 
+import strategy.StrategyType;
+
 /**
  * OptionsManager class manages options
  * @author Vachia Thoj
@@ -24,6 +26,9 @@ public class OptionsManager
 	//Default target Score
 	private static final int DEFAULT_SCORE = 100;
 	
+	//Who controls Player 2
+	private StrategyType player2Type;
+	
 	/**
 	 * Constructor
 	 */
@@ -31,6 +36,7 @@ public class OptionsManager
 	{
 		this.diceColor = DEFAULT_COLOR;
 		this.targetScore = DEFAULT_SCORE;
+		this.player2Type = StrategyType.HUMAN;
 	}
 	
 	/**
@@ -50,9 +56,11 @@ public class OptionsManager
 	//Getter methods
 	public Color getDiceColor() {return diceColor;}
 	public int getTargetScore() {return targetScore;}
+	public StrategyType getPlayer2Type() {return player2Type;}
 	
 	//Setter methods
 	public void setDiceColor(Color diceColor) {this.diceColor = diceColor;}
 	public void setTargetScore(int targetScore) {this.targetScore = targetScore;}
+	public void setPlayer2Type(StrategyType player2Type) {this.player2Type = player2Type;}
 }
 
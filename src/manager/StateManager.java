@@ -1,6 +1,8 @@
 package manager;
 import java.awt.Graphics2D;
 
+import helper.DirtyRegion;
+
 import state.*;
 
 /**
@@ -64,6 +66,24 @@ public class StateManager
 		}
 	}
 	
+	/**
+	 * Method that gives the region of the screen the current state changed since the last frame was shown
+	 * @return the DirtyRegion, or null if the whole state is drawn every frame
+	 */
+	public DirtyRegion getDirtyRegion()
+	{
+		return currentState.getDirtyRegion();
+	}
+	
+	/**
+	 * Method that tells if the current state changes without any input
+	 * @return true if the current state is animating, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return currentState.isAnimating();
+	}
+	
 	/**
 	 * Method that updates the current state
 	 */
@@ -0,0 +1,234 @@
+package presenter;
+
+import java.awt.BorderLayout;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import helper.DirtyRegion;
+
+/**
+ * BufferStrategyPresenter class draws frames straight into the back buffer of a
+ * Canvas and shows them by flipping pages (or copying the back buffer where
+ * page flipping is not supported)
+ * 
+ * The Canvas covers the panel, so the mouse listeners of the panel are added to it.
+ * Like every other change to the Canvas this is done on the event dispatch thread
+ * 
+ * A BufferStrategy always shows the whole back buffer. When it copies the back buffer
+ * instead of flipping pages, the back buffer keeps the last frame and only the changed
+ * parts have to be drawn into it
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class BufferStrategyPresenter extends Presenter
+{
+	//Number of buffers: the one on the screen and the one being drawn
+	private static final int NUM_BUFFERS = 2;
+	
+	//Canvas the frames are shown on
+	private Canvas canvas;
+	private BufferStrategy bufferStrategy;
+	
+	private Graphics2D g;
+	
+	/**
+	 * Constructor
+	 * Adds the Canvas to the panel, so it has to be called before the panel is displayed
+	 * 
+	 * @param panel (JPanel) the panel the frames are shown on
+	 * @param width (integer) width of a frame
+	 * @param height (integer) height of a frame
+	 */
+	public BufferStrategyPresenter(JPanel panel, int width, int height)
+	{
+		super(panel, width, height);
+		
+		if(GraphicsEnvironment.isHeadless() == false)
+		{
+			//Frames are drawn by the game thread, so when the Canvas has to be
+			//painted (for example after it was covered) the panel is asked to request one
+			this.canvas = new Canvas() {
+				private static final long serialVersionUID = 1L;
+				
+				public void paint(Graphics g)
+				{
+					panel.repaint();
+				}
+				
+				public void update(Graphics g)
+				{
+					paint(g);
+				}
+			};
+			this.canvas.setPreferredSize(new Dimension(width, height));
+			
+			panel.setLayout(new BorderLayout());
+			panel.add(canvas, BorderLayout.CENTER);
+		}
+	}
+	
+	public boolean start()
+	{
+		if(SwingUtilities.isEventDispatchThread() == true)
+		{
+			return startCanvas();
+		}
+		
+		boolean[] started = new boolean[1];
+		
+		try
+		{
+			SwingUtilities.invokeAndWait(() -> started[0] = startCanvas());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch(InvocationTargetException e)
+		{
+			e.printStackTrace();
+		}
+		
+		if(started[0] == false)
+		{
+			stop();
+		}
+		
+		return started[0];
+	}
+	
+	/**
+	 * Method that creates the BufferStrategy of the Canvas and sends the mouse events to it
+	 * Has to be called on the event dispatch thread
+	 * @return true if the Canvas can be used, otherwise false
+	 */
+	private boolean startCanvas()
+	{
+		if(canvas == null || canvas.isDisplayable() == false)
+		{
+			stop();
+			return false;
+		}
+		
+		try
+		{
+			canvas.createBufferStrategy(NUM_BUFFERS);
+			bufferStrategy = canvas.getBufferStrategy();
+		}
+		catch(IllegalStateException e)
+		{
+			bufferStrategy = null;
+		}
+		
+		if(bufferStrategy == null)
+		{
+			stop();
+			return false;
+		}
+		
+		//Mouse events now go to the Canvas instead of the panel
+		for(MouseListener listener : panel.getMouseListeners())
+		{
+			canvas.addMouseListener(listener);
+		}
+		
+		for(MouseMotionListener listener : panel.getMouseMotionListeners())
+		{
+			canvas.addMouseMotionListener(listener);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Method that takes the Canvas off the panel when it can not be used
+	 */
+	private void stop()
+	{
+		if(canvas != null)
+		{
+			final Canvas removed = canvas;
+			canvas = null;
+			
+			SwingUtilities.invokeLater(() -> {
+				panel.remove(removed);
+				panel.revalidate();
+			});
+		}
+	}
+	
+	public Presenter getFallback()
+	{
+		return new VolatileImagePresenter(panel, width, height);
+	}
+	
+	public Component getComponent()
+	{
+		return (canvas != null) ? canvas : panel;
+	}
+	
+	public Graphics2D beginFrame()
+	{
+		g = addRenderingHints((Graphics2D) bufferStrategy.getDrawGraphics());
+		
+		return g;
+	}
+	
+	public boolean endFrame(DirtyRegion dirtyRegion)
+	{
+		g.dispose();
+		
+		//Nothing changed
+		if(dirtyRegion != null && dirtyRegion.isEmpty() == true)
+		{
+			return true;
+		}
+		
+		//The back buffer was lost and restored while the frame was drawn
+		if(bufferStrategy.contentsRestored() == true)
+		{
+			return false;
+		}
+		
+		bufferStrategy.show();
+		sync();
+		
+		return bufferStrategy.contentsLost() == false;
+	}
+	
+	public boolean isPersistent()
+	{
+		BufferCapabilities capabilities = bufferStrategy.getCapabilities();
+		
+		return capabilities.isPageFlipping() == false || 
+				capabilities.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+	}
+	
+	public String getName()
+	{
+		return BUFFER_STRATEGY;
+	}
+	
+	public String getDescription()
+	{
+		BufferCapabilities capabilities = bufferStrategy.getCapabilities();
+		
+		return "Canvas BufferStrategy with " + NUM_BUFFERS + " buffers (page flipping: " + 
+				capabilities.isPageFlipping() + ", accelerated: " + 
+				capabilities.getBackBufferCapabilities().isAccelerated() + ", keeps last frame: " + 
+				isPersistent() + ")";
+	}
+}
@@ -0,0 +1,86 @@
+package presenter;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JPanel;
+
+import helper.DirtyRegion;
+
+/**
+ * ImagePresenter class draws frames on a BufferedImage and copies it to the panel
+ * This is the software pipeline and works everywhere
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class ImagePresenter extends Presenter
+{
+	//Image the frames are drawn on
+	private BufferedImage image;
+	private Graphics2D g;
+	
+	/**
+	 * Constructor
+	 * @param panel (JPanel) the panel the frames are shown on
+	 * @param width (integer) width of a frame
+	 * @param height (integer) height of a frame
+	 */
+	public ImagePresenter(JPanel panel, int width, int height)
+	{
+		super(panel, width, height);
+	}
+	
+	public boolean start()
+	{
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		
+		//An image in the same format as the screen is copied without conversion
+		if(gc != null)
+		{
+			image = gc.createCompatibleImage(width, height, Transparency.OPAQUE);
+		}
+		else
+		{
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		}
+		
+		g = addRenderingHints(image.createGraphics());
+		
+		return true;
+	}
+	
+	public Presenter getFallback()
+	{
+		return null;
+	}
+	
+	public Graphics2D beginFrame()
+	{
+		return g;
+	}
+	
+	public boolean endFrame(DirtyRegion dirtyRegion)
+	{
+		copyToPanel(image, dirtyRegion);
+		
+		return true;
+	}
+		
+	public boolean isPersistent()
+	{
+		return true;
+	}
+	
+	public String getName()
+	{
+		return BUFFERED_IMAGE;
+	}
+	
+	public String getDescription()
+	{
+		return "BufferedImage copied with Graphics.drawImage (software, image type " + image.getType() + ")";
+	}
+}
@@ -0,0 +1,200 @@
+package presenter;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+
+import javax.swing.JPanel;
+
+import helper.DirtyRegion;
+
+/**
+ * Abstract class that represents how frames are shown on the screen
+ * 
+ * A frame is drawn on the Graphics2D given by beginFrame() and shown by endFrame().
+ * When a Presenter can not be used on this machine, start() fails and the
+ * Presenter given by getFallback() is used instead
+ * 
+ * A Presenter whose back buffer keeps the last frame (isPersistent()) only needs
+ * the changed parts of a frame to be drawn, and may show only those parts
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public abstract class Presenter 
+{
+	//Names of the Presenters, from fastest to most compatible
+	public static final String BUFFER_STRATEGY = "bufferstrategy";
+	public static final String VOLATILE_IMAGE = "volatile";
+	public static final String BUFFERED_IMAGE = "image";
+	
+	//Presenter used unless told otherwise
+	public static final String DEFAULT = BUFFER_STRATEGY;
+	
+	//The panel the frames are shown on
+	protected JPanel panel;
+	
+	//width and height of a frame
+	protected int width;
+	protected int height;
+	
+	/**
+	 * Constructor
+	 * @param panel (JPanel) the panel the frames are shown on
+	 * @param width (integer) width of a frame
+	 * @param height (integer) height of a frame
+	 */
+	protected Presenter(JPanel panel, int width, int height)
+	{
+		this.panel = panel;
+		this.width = width;
+		this.height = height;
+	}
+	
+	/**
+	 * Method that creates a Presenter by name
+	 * @param name (String) BUFFER_STRATEGY, VOLATILE_IMAGE or BUFFERED_IMAGE
+	 * @param panel (JPanel) the panel the frames are shown on
+	 * @param width (integer) width of a frame
+	 * @param height (integer) height of a frame
+	 * @return the Presenter
+	 */
+	public static Presenter create(String name, JPanel panel, int width, int height)
+	{
+		switch(name)
+		{
+			case BUFFER_STRATEGY:
+				return new BufferStrategyPresenter(panel, width, height);
+			case VOLATILE_IMAGE:
+				return new VolatileImagePresenter(panel, width, height);
+			case BUFFERED_IMAGE:
+				return new ImagePresenter(panel, width, height);
+			default:
+				throw new IllegalArgumentException("Unknown presenter: " + name);
+		}
+	}
+	
+	/**
+	 * Method that adds anti-aliasing to a Graphics2D the frame is drawn on
+	 * @param g (Graphics2D) the graphics to prepare
+	 * @return the same Graphics2D
+	 */
+	protected static Graphics2D addRenderingHints(Graphics2D g)
+	{
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		
+		return g;
+	}
+	
+	/**
+	 * Method that flushes drawing commands to the screen
+	 * Some window systems (X11) queue them and would show the frame late
+	 */
+	protected static void sync()
+	{
+		Toolkit.getDefaultToolkit().sync();
+	}
+	
+	/**
+	 * Method that gives the GraphicsConfiguration of the panel, or null when it has none yet
+	 * @return the GraphicsConfiguration
+	 */
+	protected GraphicsConfiguration getGraphicsConfiguration()
+	{
+		return panel.getGraphicsConfiguration();
+	}
+	
+	/**
+	 * Method that gives the component showing the frames, which receives mouse input
+	 * @return the component
+	 */
+	public Component getComponent()
+	{
+		return panel;
+	}
+	
+	/**
+	 * Method that prepares the Presenter, called on the thread drawing the frames
+	 * once the panel is displayable
+	 * @return true if the Presenter can be used, otherwise false
+	 */
+	public abstract boolean start();
+	
+	/**
+	 * Method that gives the Presenter to use when this one can not be started
+	 * @return the fallback Presenter, or null if there is none
+	 */
+	public abstract Presenter getFallback();
+	
+	/**
+	 * Method that gives the Graphics2D the next frame is drawn on
+	 * @return the Graphics2D
+	 */
+	public abstract Graphics2D beginFrame();
+	
+	/**
+	 * Method that shows the frame drawn since beginFrame()
+	 * @param dirtyRegion (DirtyRegion) the parts of the frame that changed, or null if all of it did
+	 * @return true if the frame was shown, false if its contents were lost and it must be drawn again
+	 */
+	public abstract boolean endFrame(DirtyRegion dirtyRegion);
+	
+	/**
+	 * Method that tells if the back buffer still holds the last frame when the next one is drawn
+	 * @return true if only the changed parts of a frame have to be drawn, otherwise false
+	 */
+	public abstract boolean isPersistent();
+	
+	/**
+	 * Method that copies the changed parts of a frame to the panel
+	 * @param image (Image) the back buffer holding the frame
+	 * @param dirtyRegion (DirtyRegion) the parts of the frame that changed, or null if all of it did
+	 */
+	protected void copyToPanel(Image image, DirtyRegion dirtyRegion)
+	{
+		Graphics g = panel.getGraphics();
+		
+		//Panel is not on the screen
+		if(g == null)
+		{
+			return;
+		}
+		
+		if(dirtyRegion == null || dirtyRegion.isFull() == true)
+		{
+			g.drawImage(image, 0, 0, null);
+		}
+		else
+		{
+			for(int i = 0; i < dirtyRegion.getCount(); i++)
+			{
+				int x0 = dirtyRegion.getX(i);
+				int y0 = dirtyRegion.getY(i);
+				int x1 = x0 + dirtyRegion.getWidth(i);
+				int y1 = y0 + dirtyRegion.getHeight(i);
+				
+				g.drawImage(image, x0, y0, x1, y1, x0, y0, x1, y1, null);
+			}
+		}
+		
+		g.dispose();
+		sync();
+	}
+	
+	/**
+	 * Method that gives the name of the Presenter
+	 * @return the name
+	 */
+	public abstract String getName();
+	
+	/**
+	 * Method that describes the pipeline that is being used
+	 * @return the description
+	 */
+	public abstract String getDescription();
+}
@@ -0,0 +1,147 @@
+package presenter;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.VolatileImage;
+
+import javax.swing.JPanel;
+
+import helper.DirtyRegion;
+
+/**
+ * VolatileImagePresenter class draws frames on a VolatileImage, which can live in
+ * video memory, and copies it to the panel
+ * 
+ * The contents of a VolatileImage can be lost at any time (for example when the
+ * screen mode changes); the frame is then drawn again in full. If the image can
+ * not be created again, the frames are drawn with the fallback Presenter instead
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class VolatileImagePresenter extends Presenter
+{
+	//Image the frames are drawn on
+	private VolatileImage image;
+	private Graphics2D g;
+	
+	//Flag to indicate that the image was restored or created again and holds nothing
+	private boolean restored;
+	
+	//Presenter that draws the frames once the image could not be created again, null until then
+	private Presenter fallbackPresenter;
+	
+	/**
+	 * Constructor
+	 * @param panel (JPanel) the panel the frames are shown on
+	 * @param width (integer) width of a frame
+	 * @param height (integer) height of a frame
+	 */
+	public VolatileImagePresenter(JPanel panel, int width, int height)
+	{
+		super(panel, width, height);
+	}
+	
+	public boolean start()
+	{
+		//The panel can only create a VolatileImage once it is displayable
+		image = panel.createVolatileImage(width, height);
+		
+		return image != null;
+	}
+	
+	public Presenter getFallback()
+	{
+		return new ImagePresenter(panel, width, height);
+	}
+	
+	public Graphics2D beginFrame()
+	{
+		if(fallbackPresenter != null)
+		{
+			return fallbackPresenter.beginFrame();
+		}
+		
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		
+		if(gc != null)
+		{
+			int status = image.validate(gc);
+			
+			//The window moved to a screen the image does not work on
+			if(status == VolatileImage.IMAGE_INCOMPATIBLE)
+			{
+				image.flush();
+				image = panel.createVolatileImage(width, height);
+				restored = true;
+			}
+			else if(status == VolatileImage.IMAGE_RESTORED)
+			{
+				restored = true;
+			}
+		}
+		
+		//No image could be created for the screen: use the fallback from now on
+		if(image == null)
+		{
+			fallbackPresenter = getFallback();
+			fallbackPresenter.start();
+			restored = true;
+			
+			return fallbackPresenter.beginFrame();
+		}
+		
+		g = addRenderingHints(image.createGraphics());
+		
+		return g;
+	}
+	
+	public boolean endFrame(DirtyRegion dirtyRegion)
+	{
+		if(fallbackPresenter != null)
+		{
+			//The first frame on the fallback has to be drawn in full
+			if(restored == true)
+			{
+				restored = false;
+				return false;
+			}
+			
+			return fallbackPresenter.endFrame(dirtyRegion);
+		}
+		
+		g.dispose();
+		
+		//Only part of the frame may have been drawn on an image that held nothing
+		if(image.contentsLost() == true || restored == true)
+		{
+			restored = false;
+			return false;
+		}
+		
+		copyToPanel(image, dirtyRegion);
+		
+		return image.contentsLost() == false;
+	}
+	
+	public boolean isPersistent()
+	{
+		return true;
+	}
+	
+	public String getName()
+	{
+		return VOLATILE_IMAGE;
+	}
+	
+	public String getDescription()
+	{
+		if(fallbackPresenter != null)
+		{
+			return fallbackPresenter.getDescription();
+		}
+		
+		return "VolatileImage copied with Graphics.drawImage (accelerated: " + 
+				image.getCapabilities().isAccelerated() + ")";
+	}
+}
@@ -0,0 +1,39 @@
+package random;
+
+/**
+ * PerThreadRandomProvider class hands every thread its own stream split from
+ * a root RandomProvider, so a non thread safe generator can be shared
+ * Results are reproducible as long as threads first draw in the same order
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class PerThreadRandomProvider extends RandomProvider
+{
+	//Generator the streams are split from
+	private RandomProvider root;
+	
+	//Stream of the calling thread
+	private ThreadLocal<RandomProvider> streams;
+	
+	/**
+	 * Constructor
+	 * @param root (RandomProvider) the generator to split the per-thread streams from
+	 */
+	public PerThreadRandomProvider(RandomProvider root)
+	{
+		this.root = root;
+		this.streams = ThreadLocal.withInitial(this::splitRoot);
+	}
+	
+	private synchronized RandomProvider splitRoot()
+	{
+		return root.split();
+	}
+	
+	public int nextInt(int bound) {return streams.get().nextInt(bound);}
+	public long nextLong() {return streams.get().nextLong();}
+	public double nextDouble() {return streams.get().nextDouble();}
+	
+	public RandomProvider split() {return splitRoot();}
+}
@@ -0,0 +1,75 @@
+package random;
+
+/**
+ * Abstract class that represents a source of random numbers
+ * Dice and other game objects draw their random numbers from a RandomProvider
+ * so the generator can be swapped and seeded
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public abstract class RandomProvider 
+{
+	protected RandomProvider()
+	{
+		
+	}
+	
+	/**
+	 * Method that generates a random integer
+	 * @param bound (integer) the upper bound (exclusive), must be positive
+	 * @return an integer between 0 (inclusive) and bound (exclusive)
+	 */
+	public abstract int nextInt(int bound);
+	
+	/**
+	 * Method that generates a random long
+	 * @return a long where all 64 bits are random
+	 */
+	public abstract long nextLong();
+	
+	/**
+	 * Method that generates a random double
+	 * @return a double between 0.0 (inclusive) and 1.0 (exclusive)
+	 */
+	public abstract double nextDouble();
+	
+	/**
+	 * Method that creates a new RandomProvider whose numbers are independent
+	 * of this one, so that each thread can be given its own stream
+	 * @return a new RandomProvider
+	 */
+	public abstract RandomProvider split();
+	
+	/**
+	 * Method that creates a RandomProvider by name
+	 * @param name (String) "xoshiro", "splittable" or "threadlocal"
+	 * @param seed (long) the seed of the generator (ignored by "threadlocal")
+	 * @return the RandomProvider
+	 */
+	public static RandomProvider create(String name, long seed)
+	{
+		switch(name)
+		{
+			case "xoshiro":
+				return new XoshiroRandomProvider(seed);
+			case "splittable":
+				return new SplittableRandomProvider(seed);
+			case "threadlocal":
+				return new ThreadLocalRandomProvider();
+			default:
+				throw new IllegalArgumentException("Unknown random provider: " + name);
+		}
+	}
+	
+	/**
+	 * Method that generates a random integer between min and max
+	 * @param min (integer) the smallest possible number to generate (inclusive)
+	 * @param max (integer) the largest possible number to generate (inclusive)
+	 * @return a random integer between min and max
+	 */
+	public int nextInt(int min, int max)
+	{
+		return nextInt((max - min) + 1) + min;
+	}
+}
@@ -0,0 +1,44 @@
+package random;
+
+import java.util.SplittableRandom;
+
+/**
+ * SplittableRandomProvider class is a RandomProvider backed by a
+ * java.util.SplittableRandom
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class SplittableRandomProvider extends RandomProvider
+{
+	//Generator
+	private SplittableRandom random;
+	
+	/**
+	 * Constructor
+	 */
+	public SplittableRandomProvider()
+	{
+		this.random = new SplittableRandom();
+	}
+	
+	/**
+	 * Constructor
+	 * @param seed (long) the seed of the generator
+	 */
+	public SplittableRandomProvider(long seed)
+	{
+		this.random = new SplittableRandom(seed);
+	}
+	
+	private SplittableRandomProvider(SplittableRandom random)
+	{
+		this.random = random;
+	}
+	
+	public int nextInt(int bound) {return random.nextInt(bound);}
+	public long nextLong() {return random.nextLong();}
+	public double nextDouble() {return random.nextDouble();}
+	
+	public RandomProvider split() {return new SplittableRandomProvider(random.split());}
+}
@@ -0,0 +1,30 @@
+package random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ThreadLocalRandomProvider class is a RandomProvider backed by
+ * java.util.concurrent.ThreadLocalRandom
+ * Every thread already draws from its own stream, but the
+ * generator cannot be seeded so games are not reproducible
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class ThreadLocalRandomProvider extends RandomProvider
+{
+	/**
+	 * Constructor
+	 */
+	public ThreadLocalRandomProvider()
+	{
+		
+	}
+	
+	public int nextInt(int bound) {return ThreadLocalRandom.current().nextInt(bound);}
+	public long nextLong() {return ThreadLocalRandom.current().nextLong();}
+	public double nextDouble() {return ThreadLocalRandom.current().nextDouble();}
+	
+	//Each thread already has its own stream
+	public RandomProvider split() {return this;}
+}
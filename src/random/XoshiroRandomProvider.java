@@ -0,0 +1,157 @@
+package random;
+
+/**
+ * XoshiroRandomProvider class is a RandomProvider that uses the
+ * xoshiro256** generator by David Blackman and Sebastiano Vigna
+ * The generator is not thread safe, use split() to give each thread its own stream
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class XoshiroRandomProvider extends RandomProvider
+{
+	//State of the generator
+	private long s0;
+	private long s1;
+	private long s2;
+	private long s3;
+	
+	//Polynomial used to jump ahead 2^128 numbers
+	private static final long[] JUMP = {
+		0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+	};
+	
+	/**
+	 * Constructor
+	 */
+	public XoshiroRandomProvider()
+	{
+		this(System.nanoTime());
+	}
+	
+	/**
+	 * Constructor
+	 * The seed is expanded into the 256 bits of state with SplitMix64
+	 * @param seed (long) the seed of the generator
+	 */
+	public XoshiroRandomProvider(long seed)
+	{
+		long x = seed;
+		
+		x += 0x9e3779b97f4a7c15L;
+		this.s0 = mix(x);
+		x += 0x9e3779b97f4a7c15L;
+		this.s1 = mix(x);
+		x += 0x9e3779b97f4a7c15L;
+		this.s2 = mix(x);
+		x += 0x9e3779b97f4a7c15L;
+		this.s3 = mix(x);
+	}
+	
+	private XoshiroRandomProvider(long s0, long s1, long s2, long s3)
+	{
+		this.s0 = s0;
+		this.s1 = s1;
+		this.s2 = s2;
+		this.s3 = s3;
+	}
+	
+	/**
+	 * SplitMix64 output function
+	 */
+	private static long mix(long z)
+	{
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+	
+	public long nextLong()
+	{
+		long result = Long.rotateLeft(s1 * 5, 7) * 9;
+		long t = s1 << 17;
+		
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		
+		return result;
+	}
+	
+	public int nextInt(int bound)
+	{
+		//Same unbiased method as java.util.Random, using the top 31 bits
+		int r = (int) (nextLong() >>> 33);
+		int m = bound - 1;
+		
+		if((bound & m) == 0)
+		{
+			return (int) ((bound * (long) r) >> 31);
+		}
+		
+		int u = r;
+		r = u % bound;
+		
+		//Reject values from the incomplete last interval
+		while(u - r + m < 0)
+		{
+			u = (int) (nextLong() >>> 33);
+			r = u % bound;
+		}
+		
+		return r;
+	}
+	
+	public double nextDouble()
+	{
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+	
+	/**
+	 * Method that creates a new stream starting at the current state and then
+	 * jumps this generator 2^128 numbers ahead, so the two never overlap
+	 * @return a new RandomProvider
+	 */
+	public RandomProvider split()
+	{
+		XoshiroRandomProvider stream = new XoshiroRandomProvider(s0, s1, s2, s3);
+		jump();
+		
+		return stream;
+	}
+	
+	/**
+	 * Method that advances the generator by 2^128 numbers
+	 */
+	private void jump()
+	{
+		long t0 = 0;
+		long t1 = 0;
+		long t2 = 0;
+		long t3 = 0;
+		
+		for(int i = 0; i < JUMP.length; i++)
+		{
+			for(int b = 0; b < 64; b++)
+			{
+				if((JUMP[i] & (1L << b)) != 0)
+				{
+					t0 ^= s0;
+					t1 ^= s1;
+					t2 ^= s2;
+					t3 ^= s3;
+				}
+				nextLong();
+			}
+		}
+		
+		s0 = t0;
+		s1 = t1;
+		s2 = t2;
+		s3 = t3;
+	}
+}
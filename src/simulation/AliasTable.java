@@ -0,0 +1,98 @@
+package simulation;
+
+import random.RandomProvider;
+
+/**
+ * AliasTable class samples from a discrete distribution in constant time
+ * with a single random number (Vose's alias method)
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class AliasTable 
+{
+	//Probability of keeping each column instead of taking its alias
+	private double[] keep;
+	
+	//Outcome each column falls back to
+	private int[] alias;
+	
+	/**
+	 * Constructor
+	 * @param probabilities (double[]) probability of each outcome, summing to 1
+	 */
+	public AliasTable(double[] probabilities)
+	{
+		int n = probabilities.length;
+		
+		this.keep = new double[n];
+		this.alias = new int[n];
+		
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int numSmall = 0;
+		int numLarge = 0;
+		
+		for(int i = 0; i < n; i++)
+		{
+			scaled[i] = probabilities[i] * n;
+			alias[i] = i;
+			
+			if(scaled[i] < 1)
+			{
+				small[numSmall++] = i;
+			}
+			else
+			{
+				large[numLarge++] = i;
+			}
+		}
+		
+		//Fill every small column up to 1 with part of a large column
+		while(numSmall > 0 && numLarge > 0)
+		{
+			int less = small[--numSmall];
+			int more = large[--numLarge];
+			
+			keep[less] = scaled[less];
+			alias[less] = more;
+			
+			scaled[more] = (scaled[more] + scaled[less]) - 1;
+			
+			if(scaled[more] < 1)
+			{
+				small[numSmall++] = more;
+			}
+			else
+			{
+				large[numLarge++] = more;
+			}
+		}
+		
+		//What is left over is 1 up to rounding error
+		while(numLarge > 0)
+		{
+			keep[large[--numLarge]] = 1;
+		}
+		while(numSmall > 0)
+		{
+			keep[small[--numSmall]] = 1;
+		}
+	}
+	
+	/**
+	 * Method that picks an outcome
+	 * The whole part of one random number picks a column and the
+	 * fraction decides between the column and its alias
+	 * @param random (RandomProvider) the source of random numbers
+	 * @return the index of the outcome
+	 */
+	public int sample(RandomProvider random)
+	{
+		double u = random.nextDouble() * keep.length;
+		int column = (int) u;
+		
+		return ((u - column) < keep[column]) ? column : alias[column];
+	}
+}
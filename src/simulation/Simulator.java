@@ -0,0 +1,262 @@
+package simulation;
+
+import backend.Game;
+import backend.Player;
+import random.RandomProvider;
+
+/**
+ * Simulator class plays complete Pig Dice Games back to back without
+ * a GUI and reports how fast the games were played and who won them
+ * 
+ * Both players follow a "hold at N" policy: they keep rolling until their
+ * turn score reaches N and then stop
+ * 
+ * Games are either played roll by roll, or turn by turn where each whole turn
+ * is drawn from the precomputed TurnDistribution of the Player's threshold
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class Simulator
+{
+	//The Game that is played over and over again
+	private Game game;
+
+	//Turn score at which each Player stops rolling
+	private int player1HoldAt;
+	private int player2HoldAt;
+
+	//Source of random numbers
+	private RandomProvider random;
+	
+	//Flag to draw whole turns instead of single rolls
+	private boolean sampleTurns;
+	
+	//Outcome of a whole turn for each Player's threshold
+	private TurnDistribution player1Turns;
+	private TurnDistribution player2Turns;
+	
+	//Statistics of the run
+	private long gamesPlayed;
+	private long rollsMade;
+	private long turnsPlayed;
+	private long player1Wins;
+	private long player2Wins;
+	private long elapsedNanos;
+
+	//Default values used when no arguments are given
+	private static final long DEFAULT_GAMES = 1000000;
+	private static final int DEFAULT_TARGET = 100;
+	private static final int DEFAULT_HOLD_AT = 20;
+	private static final String DEFAULT_RANDOM = "xoshiro";
+	private static final String DEFAULT_MODE = "rolls";
+
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @param player1HoldAt (integer) turn score at which Player 1 stops rolling
+	 * @param player2HoldAt (integer) turn score at which Player 2 stops rolling
+	 * @param random (RandomProvider) the source of random numbers for the dice
+	 */
+	public Simulator(int targetScore, int player1HoldAt, int player2HoldAt, RandomProvider random)
+	{
+		this.game = new Game(targetScore, random);
+		this.random = random;
+
+		this.player1HoldAt = player1HoldAt;
+		this.player2HoldAt = player2HoldAt;
+		
+		this.sampleTurns = false;
+		this.player1Turns = new TurnDistribution(player1HoldAt);
+		this.player2Turns = new TurnDistribution(player2HoldAt);
+	}
+
+	//Getter methods
+	public long getGamesPlayed() {return gamesPlayed;}
+	public long getRollsMade() {return rollsMade;}
+	public long getTurnsPlayed() {return turnsPlayed;}
+	public long getPlayer1Wins() {return player1Wins;}
+	public long getPlayer2Wins() {return player2Wins;}
+	public long getElapsedNanos() {return elapsedNanos;}
+	public boolean isSampleTurns() {return sampleTurns;}
+	
+	//Setter methods
+	public void setSampleTurns(boolean b) {sampleTurns = b;}
+
+	/**
+	 * Method that plays a number of complete games
+	 * The same Game object is reset between games so nothing is
+	 * allocated while the games are being played
+	 *
+	 * @param numGames (long) the number of games to play
+	 */
+	public void run(long numGames)
+	{
+		Player player1 = game.getPlayer1();
+
+		long startTime = System.nanoTime();
+
+		for(long i = 0; i < numGames; i++)
+		{
+			game.reset();
+
+			while(game.isGameOver() == false)
+			{
+				if(sampleTurns == true)
+				{
+					sampleTurn();
+				}
+				else
+				{
+					playTurn();
+				}
+				++turnsPlayed;
+			}
+
+			if(game.getWinner() == player1)
+			{
+				++player1Wins;
+			}
+			else
+			{
+				++player2Wins;
+			}
+		}
+
+		elapsedNanos += System.nanoTime() - startTime;
+		gamesPlayed += numGames;
+	}
+
+	/**
+	 * Method that plays a single turn for the current Player
+	 */
+	private void playTurn()
+	{
+		int holdAt = (game.getCurrentPlayer() == game.getPlayer1()) ? player1HoldAt : player2HoldAt;
+
+		while(true)
+		{
+			game.roll();
+			++rollsMade;
+
+			//A pig ends the turn
+			if(game.evaluateRoll() != 0)
+			{
+				game.nextPlayer();
+				return;
+			}
+
+			if(game.getTurnScore() >= holdAt)
+			{
+				game.doneRolling();
+
+				if(game.isGameOver() == false)
+				{
+					game.nextPlayer();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Method that plays a single turn for the current Player with one random number
+	 * The outcome is applied through the Game so its rules still decide the result
+	 */
+	private void sampleTurn()
+	{
+		TurnDistribution turns = (game.getCurrentPlayer() == game.getPlayer1()) ? player1Turns : player2Turns;
+		int outcome = turns.sample(random);
+		
+		if(outcome == TurnDistribution.LOST_TURN || outcome == TurnDistribution.RESET_SCORE)
+		{
+			//Show the pigs on the dice and let the Game evaluate them
+			game.getDie1().setValue(1);
+			game.getDie2().setValue((outcome == TurnDistribution.RESET_SCORE) ? 1 : 2);
+			game.evaluateRoll();
+			game.nextPlayer();
+		}
+		else
+		{
+			game.setTurnScore(outcome);
+			game.doneRolling();
+			
+			if(game.isGameOver() == false)
+			{
+				game.nextPlayer();
+			}
+		}
+	}
+	
+	/**
+	 * Method that builds a report of the games played so far
+	 * @return String of the throughput and win-rate results
+	 */
+	public String getReport()
+	{
+		double seconds = elapsedNanos / 1000000000.0;
+
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Games played:   %,d (target %d, hold at %d vs %d, %s)%n",
+				gamesPlayed, game.getTargetScore(), player1HoldAt, player2HoldAt, 
+				sampleTurns ? "sampled turns" : "roll by roll"));
+		report.append(String.format("Turns played:   %,d (%.1f per game)%n",
+				turnsPlayed, (double) turnsPlayed / gamesPlayed));
+		//Sampled turns are drawn without rolling, so there are no rolls to count
+		if(sampleTurns == false)
+		{
+			report.append(String.format("Rolls made:     %,d (%.1f per game)%n",
+					rollsMade, (double) rollsMade / gamesPlayed));
+		}
+		report.append(String.format("Elapsed time:   %.3f s%n", seconds));
+		report.append(String.format("Games/sec:      %,.0f%n", gamesPlayed / seconds));
+		report.append(String.format("Turns/sec:      %,.0f%n", turnsPlayed / seconds));
+		if(sampleTurns == false)
+		{
+			report.append(String.format("Rolls/sec:      %,.0f%n", rollsMade / seconds));
+		}
+		report.append(String.format("Player 1 wins:  %,d (%.2f%%)%n",
+				player1Wins, 100.0 * player1Wins / gamesPlayed));
+		report.append(String.format("Player 2 wins:  %,d (%.2f%%)%n",
+				player2Wins, 100.0 * player2Wins / gamesPlayed));
+
+		return report.toString();
+	}
+
+	/**
+	 * Runs the Simulator from the command line
+	 * Arguments (all optional): numGames targetScore player1HoldAt player2HoldAt seed generator mode
+	 * mode is "rolls" to play roll by roll or "turns" to draw whole turns
+	 * The same seed and generator always play the same games
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String args[])
+	{
+		long numGames = (args.length > 0) ? Long.parseLong(args[0]) : DEFAULT_GAMES;
+		int targetScore = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_TARGET;
+		int player1HoldAt = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_HOLD_AT;
+		int player2HoldAt = (args.length > 3) ? Integer.parseInt(args[3]) : player1HoldAt;
+		long seed = (args.length > 4) ? Long.parseLong(args[4]) : System.nanoTime();
+		String generator = (args.length > 5) ? args[5] : DEFAULT_RANDOM;
+		String mode = (args.length > 6) ? args[6] : DEFAULT_MODE;
+
+		if(targetScore < 1 || player1HoldAt < 1 || player2HoldAt < 1)
+		{
+			throw new IllegalArgumentException("Target score and hold-at values must be at least 1");
+		}
+		
+		if(mode.equals("rolls") == false && mode.equals("turns") == false)
+		{
+			throw new IllegalArgumentException("Unknown mode: " + mode);
+		}
+		
+		RandomProvider random = RandomProvider.create(generator, seed);
+		
+		Simulator simulator = new Simulator(targetScore, player1HoldAt, player2HoldAt, random);
+		simulator.setSampleTurns(mode.equals("turns"));
+		simulator.run(numGames);
+
+		System.out.print(simulator.getReport());
+	}
+}
@@ -0,0 +1,332 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import backend.Game;
+import backend.Player;
+import random.RandomProvider;
+import random.XoshiroRandomProvider;
+import strategy.HoldAtStrategy;
+import strategy.OptimalStrategy;
+import strategy.RaceToTargetStrategy;
+import strategy.Strategy;
+
+/**
+ * Tournament class plays every pair of Strategies against each other
+ * and reports a matrix of win rates
+ * 
+ * Every pairing plays half of its games with each Strategy going first to
+ * remove the first-player advantage. The games are split into matches that
+ * run on a work-stealing ForkJoinPool; every match has its own Game and its
+ * own random stream split from the seed, so results do not depend on the
+ * number of threads and nothing mutable is shared while games are played
+ * 
+ * @author Vachia Thoj
+ * 
+ */
+public class Tournament
+{
+	//Strategies taking part
+	private List<Strategy> strategies;
+	
+	//Score to reach in order to win
+	private int targetScore;
+	
+	//Number of games played by each pair of Strategies
+	private int gamesPerPairing;
+	
+	//wins[i][j] is the number of games Strategy i won against Strategy j
+	private long[][] wins;
+	
+	//Time taken by the last run
+	private long elapsedNanos;
+	
+	//Largest number of games played by one match
+	private static final int GAMES_PER_MATCH = 10000;
+	
+	//z value of a 95% confidence interval
+	private static final double Z_95 = 1.959964;
+	
+	/**
+	 * Constructor
+	 * @param strategies (List) the Strategies taking part
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @param gamesPerPairing (integer) number of games played by each pair of Strategies
+	 */
+	public Tournament(List<Strategy> strategies, int targetScore, int gamesPerPairing)
+	{
+		this.strategies = strategies;
+		this.targetScore = targetScore;
+		this.gamesPerPairing = gamesPerPairing;
+		
+		this.wins = new long[strategies.size()][strategies.size()];
+	}
+	
+	//Getter methods
+	public long[][] getWins() {return wins;}
+	public long getElapsedNanos() {return elapsedNanos;}
+	
+	/**
+	 * Method that plays every pairing
+	 * @param threads (integer) number of threads of the ForkJoinPool
+	 * @param seed (long) seed the random streams of the matches are split from
+	 */
+	public void run(int threads, long seed)
+	{
+		RandomProvider root = new XoshiroRandomProvider(seed);
+		List<Match> matches = new ArrayList<Match>();
+		
+		//Streams are split here, in a fixed order, so every match always gets the same one
+		for(int i = 0; i < strategies.size(); i++)
+		{
+			for(int j = i + 1; j < strategies.size(); j++)
+			{
+				for(int first = 0; first < 2; first++)
+				{
+					int seatGames = (first == 0) ? (gamesPerPairing + 1) / 2 : gamesPerPairing / 2;
+					
+					for(int played = 0; played < seatGames; played += GAMES_PER_MATCH)
+					{
+						int games = Math.min(GAMES_PER_MATCH, seatGames - played);
+						
+						if(first == 0)
+						{
+							matches.add(new Match(i, j, games, root.split()));
+						}
+						else
+						{
+							matches.add(new Match(j, i, games, root.split()));
+						}
+					}
+				}
+			}
+		}
+		
+		long startTime = System.nanoTime();
+		
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try
+		{
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				
+				protected void compute()
+				{
+					ForkJoinTask.invokeAll(matches);
+				}
+			});
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		
+		elapsedNanos = System.nanoTime() - startTime;
+		
+		//Combine the results once every match is done
+		for(int i = 0; i < wins.length; i++)
+		{
+			for(int j = 0; j < wins.length; j++)
+			{
+				wins[i][j] = 0;
+			}
+		}
+		
+		for(Match match : matches)
+		{
+			wins[match.first][match.second] += match.firstWins;
+			wins[match.second][match.first] += match.games - match.firstWins;
+		}
+	}
+	
+	/**
+	 * Method that plays one game
+	 * @param game (Game) a Game that has been reset
+	 * @return true if Player 1 won, otherwise false
+	 */
+	private static boolean playGame(Game game)
+	{
+		while(game.isGameOver() == false)
+		{
+			Player player = game.getCurrentPlayer();
+			
+			if(player.getStrategy().shouldRoll(player.getScore(), game.getOtherPlayer().getScore(),
+					game.getTurnScore(), game.getTargetScore()) == true)
+			{
+				game.roll();
+				
+				//A pig ends the turn
+				if(game.evaluateRoll() != 0)
+				{
+					game.nextPlayer();
+				}
+			}
+			else
+			{
+				game.doneRolling();
+				
+				if(game.isGameOver() == false)
+				{
+					game.nextPlayer();
+				}
+			}
+		}
+		
+		return game.getWinner() == game.getPlayer1();
+	}
+	
+	/**
+	 * Method that gives the lower and upper bound of the 95% Wilson score interval
+	 * @param successes (long) number of games won
+	 * @param total (long) number of games played
+	 * @return array of {lower, upper}
+	 */
+	public static double[] getConfidenceInterval(long successes, long total)
+	{
+		if(total == 0)
+		{
+			return new double[] {0, 1};
+		}
+		
+		double p = (double) successes / total;
+		double z2 = Z_95 * Z_95;
+		double denominator = 1 + (z2 / total);
+		double center = (p + (z2 / (2 * total))) / denominator;
+		double margin = (Z_95 * Math.sqrt((p * (1 - p) / total) + (z2 / (4.0 * total * total)))) / denominator;
+		
+		return new double[] {center - margin, center + margin};
+	}
+	
+	/**
+	 * Method that builds a report of the win-rate matrix
+	 * Each cell is the win rate of the row Strategy against the column Strategy
+	 * with the half-width of its 95% confidence interval
+	 * @return String of the matrix and the overall ranking
+	 */
+	public String getReport()
+	{
+		StringBuilder report = new StringBuilder();
+		int size = strategies.size();
+		long totalGames = (long) gamesPerPairing * size * (size - 1) / 2;
+		double seconds = elapsedNanos / 1000000000.0;
+		
+		report.append(String.format("Target score: %d, %,d games per pairing, %,d games in %.3f s (%,.0f games/sec)%n%n",
+				targetScore, gamesPerPairing, totalGames, seconds, totalGames / seconds));
+		
+		report.append(String.format("%-16s", ""));
+		for(int j = 0; j < size; j++)
+		{
+			report.append(String.format("%16s", strategies.get(j).getName()));
+		}
+		report.append(String.format("%16s%n", "Overall"));
+		
+		for(int i = 0; i < size; i++)
+		{
+			long won = 0;
+			long played = 0;
+			
+			report.append(String.format("%-16s", strategies.get(i).getName()));
+			for(int j = 0; j < size; j++)
+			{
+				if(i == j)
+				{
+					report.append(String.format("%16s", "-"));
+					continue;
+				}
+				
+				long games = wins[i][j] + wins[j][i];
+				double[] interval = getConfidenceInterval(wins[i][j], games);
+				
+				report.append(String.format("%8.2f%%+/-%4.2f",
+						100.0 * wins[i][j] / games, 50.0 * (interval[1] - interval[0])));
+				
+				won += wins[i][j];
+				played += games;
+			}
+			report.append(String.format("%15.2f%%%n", 100.0 * won / played));
+		}
+		
+		return report.toString();
+	}
+	
+	/**
+	 * Match class plays a number of games between two Strategies with
+	 * the same Strategy going first every time
+	 */
+	private class Match extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		//Index of the Strategy going first and second
+		private int first;
+		private int second;
+		
+		//Number of games to play and number won by the first Strategy
+		private int games;
+		private long firstWins;
+		
+		//Random stream of this match
+		private RandomProvider random;
+		
+		private Match(int first, int second, int games, RandomProvider random)
+		{
+			this.first = first;
+			this.second = second;
+			this.games = games;
+			this.random = random;
+		}
+		
+		protected void compute()
+		{
+			Game game = new Game(targetScore, random);
+			game.getPlayer1().setStrategy(strategies.get(first));
+			game.getPlayer2().setStrategy(strategies.get(second));
+			
+			long won = 0;
+			
+			for(int i = 0; i < games; i++)
+			{
+				game.reset();
+				
+				if(playGame(game) == true)
+				{
+					++won;
+				}
+			}
+			
+			firstWins = won;
+		}
+	}
+	
+	/**
+	 * Runs a Tournament from the command line
+	 * Arguments (all optional): gamesPerPairing targetScore threads seed
+	 * Plays hold at 10 to 35, race to target and the optimal strategy
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String args[])
+	{
+		int gamesPerPairing = (args.length > 0) ? Integer.parseInt(args[0]) : 100000;
+		int targetScore = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		long seed = (args.length > 3) ? Long.parseLong(args[3]) : System.nanoTime();
+		
+		List<Strategy> strategies = new ArrayList<Strategy>();
+		for(int holdAt = 10; holdAt <= 35; holdAt += 5)
+		{
+			strategies.add(new HoldAtStrategy(holdAt));
+		}
+		strategies.add(new RaceToTargetStrategy());
+		strategies.add(new OptimalStrategy(OptimalStrategy.getTable(targetScore).join()));
+		
+		Tournament tournament = new Tournament(strategies, targetScore, gamesPerPairing);
+		tournament.run(threads, seed);
+		
+		System.out.print(tournament.getReport());
+	}
+}
@@ -0,0 +1,152 @@
+package simulation;
+
+import backend.DiceSampler;
+import backend.RollEvaluator;
+import random.RandomProvider;
+
+/**
+ * TurnDistribution class holds the exact distribution of the outcome of a whole
+ * turn for a Player who keeps rolling until the turn score reaches a threshold
+ * 
+ * A turn ends in one of three ways: the turn score is banked (between the
+ * threshold and threshold + 11 points), one pig loses the turn score, or two pigs
+ * also reset the Player's total score. The dice follow the exact distribution of
+ * Die.roll, so a whole turn can be sampled with one random number
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class TurnDistribution 
+{
+	//Outcomes that are not banked points
+	public static final int LOST_TURN = -1;
+	public static final int RESET_SCORE = -2;
+	
+	//Largest sum of two dice
+	private static final int MAX_SUM = 12;
+	
+	//Turn score at which the Player holds
+	private int holdAt;
+	
+	//Probability of losing the turn and of resetting the score
+	private double lostProbability;
+	private double resetProbability;
+	
+	//Probability of banking holdAt + i points
+	private double[] bankedProbabilities;
+	
+	//Samples an outcome index: 0 lost, 1 reset, 2 + i banked holdAt + i
+	private AliasTable aliasTable;
+	
+	/**
+	 * Constructor
+	 * A turn always starts with a roll, so holding at less than 1 is the same as holding at 1
+	 * @param holdAt (integer) turn score at which the Player holds
+	 */
+	public TurnDistribution(int holdAt)
+	{
+		this.holdAt = Math.max(1, holdAt);
+		this.bankedProbabilities = new double[MAX_SUM];
+		
+		createDistribution();
+		
+		double[] outcomes = new double[2 + bankedProbabilities.length];
+		outcomes[0] = lostProbability;
+		outcomes[1] = resetProbability;
+		System.arraycopy(bankedProbabilities, 0, outcomes, 2, bankedProbabilities.length);
+		
+		this.aliasTable = new AliasTable(outcomes);
+	}
+	
+	//Getter methods
+	public int getHoldAt() {return holdAt;}
+	public double getLostProbability() {return lostProbability;}
+	public double getResetProbability() {return resetProbability;}
+	
+	/**
+	 * Method that gives the probability of banking a number of points
+	 * @param points (integer) the points banked
+	 * @return the probability
+	 */
+	public double getBankedProbability(int points)
+	{
+		int i = points - holdAt;
+		
+		if(i < 0 || i >= bankedProbabilities.length)
+		{
+			return 0;
+		}
+		
+		return bankedProbabilities[i];
+	}
+	
+	/**
+	 * Method that spreads the probability of every turn score over what the next roll does
+	 * Turn scores only go up, so one pass in increasing order is exact
+	 */
+	private void createDistribution()
+	{
+		double[] turnProbabilities = new double[holdAt];
+		turnProbabilities[0] = 1;
+		
+		for(int turnScore = 0; turnScore < holdAt; turnScore++)
+		{
+			double probability = turnProbabilities[turnScore];
+			
+			if(probability == 0)
+			{
+				continue;
+			}
+			
+			for(int value1 = 1; value1 <= 6; value1++)
+			{
+				for(int value2 = 1; value2 <= 6; value2++)
+				{
+					double p = probability * DiceSampler.getRollProbability(value1, value2);
+					
+					switch(RollEvaluator.getPigValue(value1, value2))
+					{
+						case 1:
+							lostProbability += p;
+							break;
+						case 2:
+							resetProbability += p;
+							break;
+						default:
+							int next = turnScore + value1 + value2;
+							
+							if(next >= holdAt)
+							{
+								bankedProbabilities[next - holdAt] += p;
+							}
+							else
+							{
+								turnProbabilities[next] += p;
+							}
+							break;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Method that plays a whole turn with one random number
+	 * @param random (RandomProvider) the source of random numbers
+	 * @return the points banked, LOST_TURN or RESET_SCORE
+	 */
+	public int sample(RandomProvider random)
+	{
+		int outcome = aliasTable.sample(random);
+		
+		switch(outcome)
+		{
+			case 0:
+				return LOST_TURN;
+			case 1:
+				return RESET_SCORE;
+			default:
+				return holdAt + (outcome - 2);
+		}
+	}
+}
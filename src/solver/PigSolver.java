@@ -0,0 +1,593 @@
+package solver;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import backend.DiceSampler;
+import backend.RollEvaluator;
+
+/**
+ * PigSolver class computes the optimal roll/hold policy for the rules of backend.Game
+ * 
+ * For every state (myScore, opponentScore, turnScore) it finds the probability
+ * that the Player about to decide wins when both Players play perfectly.
+ * Rolling a single 1 loses the turn score, rolling two 1s resets the Player's
+ * total score and the dice follow the exact distribution of Die.roll.
+ * Because a double 1 can send a Player back to 0 the states depend on each other
+ * in a cycle, so the probabilities are found with value iteration
+ * 
+ * Each sweep visits the score sums (diagonals) from highest to lowest. Within a
+ * diagonal a (myScore, opponentScore) column only reads its own values, higher
+ * diagonals, lower diagonals from the previous sweep and the turn score 0 states
+ * of its mirror column (opponentScore, myScore). A column and its mirror are
+ * always updated together in the same order, so the pairs of a diagonal are
+ * independent and can be updated on a ForkJoinPool, giving bit-identical results
+ * for any number of threads
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class PigSolver 
+{
+	//Maps states to array positions
+	private StateIndex stateIndex;
+	
+	//Score to reach in order to win
+	private int targetScore;
+	
+	//Win probability of every state
+	private double[] values;
+	
+	//Roll (1) or hold (0) decision of every state
+	private long[] decisions;
+	
+	//Probability of rolling one pig and two pigs
+	private double onePigProbability;
+	private double twoPigsProbability;
+	
+	//Sums that can be rolled without a pig and their probability
+	private int[] sums;
+	private double[] sumProbabilities;
+	
+	//Iteration stops when no value changes more than this
+	private double tolerance;
+	
+	//Number of threads used to update a diagonal
+	private int parallelism;
+	
+	//Thread pool used when parallelism is above 1
+	private ForkJoinPool pool;
+	
+	//Results of the last solve
+	private int iterations;
+	private double residual;
+	private long elapsedNanos;
+	
+	//Largest change and time taken by each iteration of the last solve
+	private double[] iterationResiduals;
+	private long[] iterationNanos;
+	
+	//Default values
+	private static final double DEFAULT_TOLERANCE = 1e-10;
+	private static final int MAX_ITERATIONS = 100000;
+	
+	//A task updates at least this many column pairs, shorter diagonals are updated inline
+	private static final int MIN_PAIRS_PER_TASK = 32;
+	
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 */
+	public PigSolver(int targetScore)
+	{
+		this.targetScore = targetScore;
+		this.stateIndex = new StateIndex(targetScore);
+		
+		this.values = new double[stateIndex.getSize()];
+		this.decisions = new long[(stateIndex.getSize() + 63) / 64];
+		
+		this.tolerance = DEFAULT_TOLERANCE;
+		this.parallelism = 1;
+		
+		this.iterationResiduals = new double[0];
+		this.iterationNanos = new long[0];
+		
+		createRollProbabilities();
+	}
+	
+	//Getter methods
+	public int getTargetScore() {return targetScore;}
+	public StateIndex getStateIndex() {return stateIndex;}
+	public int getIterations() {return iterations;}
+	public double getResidual() {return residual;}
+	public long getElapsedNanos() {return elapsedNanos;}
+	public int getParallelism() {return parallelism;}
+	public double[] getIterationResiduals() {return iterationResiduals;}
+	public long[] getIterationNanos() {return iterationNanos;}
+	
+	//Setter methods
+	public void setTolerance(double tolerance) {this.tolerance = tolerance;}
+	public void setParallelism(int parallelism) {this.parallelism = Math.max(1, parallelism);}
+	
+	/**
+	 * Method that groups the 36 rolls of two dice by what they do to the turn
+	 */
+	private void createRollProbabilities()
+	{
+		double[] sumTable = new double[13];
+		
+		for(int value1 = 1; value1 <= 6; value1++)
+		{
+			for(int value2 = 1; value2 <= 6; value2++)
+			{
+				double probability = DiceSampler.getRollProbability(value1, value2);
+				
+				switch(RollEvaluator.getPigValue(value1, value2))
+				{
+					case 1:
+						onePigProbability += probability;
+						break;
+					case 2:
+						twoPigsProbability += probability;
+						break;
+					default:
+						sumTable[value1 + value2] += probability;
+						break;
+				}
+			}
+		}
+		
+		int count = 0;
+		for(int sum = 0; sum < sumTable.length; sum++)
+		{
+			if(sumTable[sum] > 0)
+			{
+				++count;
+			}
+		}
+		
+		sums = new int[count];
+		sumProbabilities = new double[count];
+		
+		int index = 0;
+		for(int sum = 0; sum < sumTable.length; sum++)
+		{
+			if(sumTable[sum] > 0)
+			{
+				sums[index] = sum;
+				sumProbabilities[index] = sumTable[sum];
+				++index;
+			}
+		}
+	}
+	
+	/**
+	 * Method that runs value iteration until the win probabilities stop changing
+	 * and then records the best decision for every state
+	 */
+	public void solve()
+	{
+		long startTime = System.nanoTime();
+		
+		iterations = 0;
+		iterationResiduals = new double[64];
+		iterationNanos = new long[64];
+		
+		if(parallelism > 1)
+		{
+			pool = new ForkJoinPool(parallelism);
+		}
+		
+		try
+		{
+			do
+			{
+				long iterationStart = System.nanoTime();
+				residual = sweep();
+				
+				if(iterations == iterationResiduals.length)
+				{
+					iterationResiduals = Arrays.copyOf(iterationResiduals, iterations * 2);
+					iterationNanos = Arrays.copyOf(iterationNanos, iterations * 2);
+				}
+				iterationResiduals[iterations] = residual;
+				iterationNanos[iterations] = System.nanoTime() - iterationStart;
+				
+				++iterations;
+			}
+			while(residual > tolerance && iterations < MAX_ITERATIONS);
+		}
+		finally
+		{
+			if(pool != null)
+			{
+				pool.shutdown();
+				pool = null;
+			}
+		}
+		
+		iterationResiduals = Arrays.copyOf(iterationResiduals, iterations);
+		iterationNanos = Arrays.copyOf(iterationNanos, iterations);
+		
+		createDecisions();
+		
+		elapsedNanos = System.nanoTime() - startTime;
+	}
+	
+	/**
+	 * Method that updates every state once
+	 * Diagonals are visited from the highest score sum down so most of the
+	 * states a state depends on already hold this sweep's values
+	 * @return the largest change of any value
+	 */
+	private double sweep()
+	{
+		double maxChange = 0;
+		
+		for(int sum = 2 * (targetScore - 1); sum >= 0; sum--)
+		{
+			//Every pair is named by its column with the larger myScore
+			int minScore = sum - (sum / 2);
+			int maxScore = Math.min(sum, targetScore - 1);
+			int pairs = maxScore - minScore + 1;
+			
+			double diagonalChange;
+			
+			if(pool != null && pairs >= 2 * MIN_PAIRS_PER_TASK)
+			{
+				//A few large tasks per thread keep the threads busy without paying for many tiny ones
+				int pairsPerTask = Math.max(MIN_PAIRS_PER_TASK, pairs / (4 * parallelism));
+				diagonalChange = pool.invoke(new DiagonalTask(sum, minScore, maxScore, pairsPerTask));
+			}
+			else
+			{
+				diagonalChange = updatePairs(sum, minScore, maxScore);
+			}
+			
+			maxChange = Math.max(maxChange, diagonalChange);
+		}
+		
+		return maxChange;
+	}
+	
+	/**
+	 * Method that updates a range of column pairs of a diagonal
+	 * The column with the larger myScore goes first, so its mirror already reads
+	 * the new values, just as a single pass from the highest myScore down would
+	 * @param sum (integer) the score sum of the diagonal
+	 * @param minScore (integer) smallest larger myScore of the range (inclusive)
+	 * @param maxScore (integer) largest larger myScore of the range (inclusive)
+	 * @return the largest change of any value
+	 */
+	private double updatePairs(int sum, int minScore, int maxScore)
+	{
+		double maxChange = 0;
+		
+		for(int myScore = maxScore; myScore >= minScore; myScore--)
+		{
+			int opponentScore = sum - myScore;
+			
+			maxChange = Math.max(maxChange, updateColumn(myScore, opponentScore));
+			if(opponentScore != myScore)
+			{
+				maxChange = Math.max(maxChange, updateColumn(opponentScore, myScore));
+			}
+		}
+		
+		return maxChange;
+	}
+	
+	/**
+	 * Method that updates every turn score of a (myScore, opponentScore) pair
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @return the largest change of any value
+	 */
+	private double updateColumn(int myScore, int opponentScore)
+	{
+		double maxChange = 0;
+		int base = stateIndex.index(myScore, opponentScore, 0);
+		
+		//Value of rolling a pig does not depend on the turn score
+		double pigValue = rollPigValue(myScore, opponentScore);
+		
+		for(int turnScore = targetScore - 1 - myScore; turnScore >= 0; turnScore--)
+		{
+			double roll = pigValue + rollSumValue(base, myScore + turnScore, turnScore);
+			double hold = 1 - startValue(opponentScore, myScore + turnScore);
+			double value = (roll >= hold) ? roll : hold;
+			
+			maxChange = Math.max(maxChange, Math.abs(value - values[base + turnScore]));
+			values[base + turnScore] = value;
+		}
+		
+		return maxChange;
+	}
+	
+	/**
+	 * Method that gives the value of a state with a turn score of 0
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @return the win probability of the Player about to start a turn
+	 */
+	private double startValue(int myScore, int opponentScore)
+	{
+		return values[stateIndex.index(myScore, opponentScore, 0)];
+	}
+	
+	/**
+	 * Method that gives the part of the value of rolling that comes from rolling a pig
+	 * The turn passes to the opponent either way
+	 */
+	private double rollPigValue(int myScore, int opponentScore)
+	{
+		return (onePigProbability * (1 - startValue(opponentScore, myScore))) + 
+			   (twoPigsProbability * (1 - startValue(opponentScore, 0)));
+	}
+	
+	/**
+	 * Method that gives the part of the value of rolling that comes from rolling no pig
+	 * @param base (integer) position of the state with a turn score of 0
+	 * @param total (integer) myScore + turnScore
+	 * @param turnScore (integer) points gathered this turn
+	 */
+	private double rollSumValue(int base, int total, int turnScore)
+	{
+		double value = 0;
+		
+		for(int i = 0; i < sums.length; i++)
+		{
+			if(total + sums[i] >= targetScore)
+			{
+				//Reaching the target wins by holding
+				value += sumProbabilities[i];
+			}
+			else
+			{
+				value += sumProbabilities[i] * values[base + turnScore + sums[i]];
+			}
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Method that records for every state whether rolling is at least as good as holding
+	 */
+	private void createDecisions()
+	{
+		for(int myScore = 0; myScore < targetScore; myScore++)
+		{
+			for(int opponentScore = 0; opponentScore < targetScore; opponentScore++)
+			{
+				int base = stateIndex.index(myScore, opponentScore, 0);
+				double pigValue = rollPigValue(myScore, opponentScore);
+				
+				for(int turnScore = 0; turnScore < targetScore - myScore; turnScore++)
+				{
+					double roll = pigValue + rollSumValue(base, myScore + turnScore, turnScore);
+					double hold = 1 - startValue(opponentScore, myScore + turnScore);
+					int index = base + turnScore;
+					
+					if(roll >= hold)
+					{
+						decisions[index >> 6] |= (1L << index);
+					}
+					else
+					{
+						decisions[index >> 6] &= ~(1L << index);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Method that gives the probability that the Player about to decide wins
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @return the win probability when both Players play perfectly
+	 */
+	public double getWinProbability(int myScore, int opponentScore, int turnScore)
+	{
+		if(myScore + turnScore >= targetScore)
+		{
+			return 1;
+		}
+		
+		return values[stateIndex.index(myScore, opponentScore, turnScore)];
+	}
+	
+	/**
+	 * Method that tells if the Player should roll again
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @return true if the Player should roll, false if the Player should hold
+	 */
+	public boolean shouldRoll(int myScore, int opponentScore, int turnScore)
+	{
+		if(myScore + turnScore >= targetScore)
+		{
+			return false;
+		}
+		
+		int index = stateIndex.index(myScore, opponentScore, turnScore);
+		
+		return (decisions[index >> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Method that finds the smallest turn score at which the Player should hold
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @return the turn score to hold at
+	 */
+	public int getHoldAt(int myScore, int opponentScore)
+	{
+		int turnScore = 0;
+		
+		while(shouldRoll(myScore, opponentScore, turnScore) == true)
+		{
+			++turnScore;
+		}
+		
+		return turnScore;
+	}
+	
+	/**
+	 * Method that builds a report of the last solve
+	 * @param step (integer) distance between the scores shown in the hold-at table
+	 * @return String with the solve statistics and a table of hold-at turn scores
+	 */
+	public String getReport(int step)
+	{
+		StringBuilder report = new StringBuilder();
+		
+		report.append(String.format("Target score:   %d%n", targetScore));
+		report.append(String.format("States:         %,d (%,d KB)%n", 
+				stateIndex.getSize(), (values.length * 8L + decisions.length * 8L) / 1024));
+		report.append(String.format("Threads:        %d%n", parallelism));
+		report.append(String.format("Iterations:     %d (residual %.3e)%n", iterations, residual));
+		report.append(String.format("Elapsed time:   %.3f s%n", elapsedNanos / 1000000000.0));
+		report.append(String.format("P(first player wins): %.6f%n", getWinProbability(0, 0, 0)));
+		
+		//Hold-at table: rows are myScore, columns are opponentScore
+		report.append(String.format("%nHold at (rows: my score, columns: opponent score)%n"));
+		report.append("     ");
+		for(int opponentScore = 0; opponentScore < targetScore; opponentScore += step)
+		{
+			report.append(String.format("%4d", opponentScore));
+		}
+		report.append(String.format("%n"));
+		
+		for(int myScore = 0; myScore < targetScore; myScore += step)
+		{
+			report.append(String.format("%4d ", myScore));
+			for(int opponentScore = 0; opponentScore < targetScore; opponentScore += step)
+			{
+				report.append(String.format("%4d", getHoldAt(myScore, opponentScore)));
+			}
+			report.append(String.format("%n"));
+		}
+		
+		return report.toString();
+	}
+	
+	/**
+	 * Method that builds a report of the residual and time of every iteration of the last solve
+	 * @return String with one line per iteration
+	 */
+	public String getIterationReport()
+	{
+		StringBuilder report = new StringBuilder();
+		
+		for(int i = 0; i < iterations; i++)
+		{
+			report.append(String.format("Iteration %4d: residual %.3e, %8.2f ms%n", 
+					i + 1, iterationResiduals[i], iterationNanos[i] / 1000000.0));
+		}
+		
+		return report.toString();
+	}
+	
+	/**
+	 * Method that checks if another solver found exactly the same values and decisions
+	 * @param other (PigSolver) a solver for the same target score
+	 * @return true if every value and decision is bit-identical, otherwise false
+	 */
+	public boolean isIdenticalTo(PigSolver other)
+	{
+		if(other.targetScore != targetScore)
+		{
+			return false;
+		}
+		
+		for(int i = 0; i < values.length; i++)
+		{
+			if(Double.doubleToRawLongBits(values[i]) != Double.doubleToRawLongBits(other.values[i]))
+			{
+				return false;
+			}
+		}
+		
+		return Arrays.equals(decisions, other.decisions);
+	}
+	
+	/**
+	 * DiagonalTask updates a range of column pairs of a diagonal on the ForkJoinPool,
+	 * splitting the range in half until it is small enough
+	 */
+	private class DiagonalTask extends RecursiveTask<Double>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		//Diagonal and range of larger myScore to update (inclusive)
+		private int sum;
+		private int minScore;
+		private int maxScore;
+		
+		//Ranges of at most this many pairs are not split
+		private int pairsPerTask;
+		
+		private DiagonalTask(int sum, int minScore, int maxScore, int pairsPerTask)
+		{
+			this.sum = sum;
+			this.minScore = minScore;
+			this.maxScore = maxScore;
+			this.pairsPerTask = pairsPerTask;
+		}
+		
+		protected Double compute()
+		{
+			if(maxScore - minScore < pairsPerTask)
+			{
+				return updatePairs(sum, minScore, maxScore);
+			}
+			
+			int middle = (minScore + maxScore) / 2;
+			
+			DiagonalTask upper = new DiagonalTask(sum, middle + 1, maxScore, pairsPerTask);
+			upper.fork();
+			
+			double lowerChange = new DiagonalTask(sum, minScore, middle, pairsPerTask).compute();
+			
+			return Math.max(lowerChange, upper.join());
+		}
+	}
+	
+	/**
+	 * Runs the PigSolver from the command line
+	 * Arguments (all optional): targetScore threads verify
+	 * With "verify" the solve is repeated on one thread and both results are compared
+	 * 
+	 * @param args command line arguments
+	 */
+	public static void main(String args[])
+	{
+		int targetScore = (args.length > 0) ? Integer.parseInt(args[0]) : 100;
+		int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 1;
+		boolean verify = (args.length > 2) && args[2].equals("verify");
+		
+		PigSolver solver = new PigSolver(targetScore);
+		solver.setParallelism(threads);
+		solver.solve();
+		
+		if(threads > 1)
+		{
+			System.out.print(solver.getIterationReport());
+		}
+		System.out.print(solver.getReport(Math.max(1, targetScore / 10)));
+		
+		if(verify == true)
+		{
+			PigSolver serial = new PigSolver(targetScore);
+			serial.solve();
+			
+			System.out.printf("%nSingle thread:  %.3f s, bit-identical: %b%n", 
+					serial.getElapsedNanos() / 1000000000.0, solver.isIdenticalTo(serial));
+		}
+	}
+}
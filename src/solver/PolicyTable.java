@@ -0,0 +1,311 @@
+package solver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import backend.Die;
+
+/**
+ * PolicyTable class stores a solved optimal policy in a compact binary file
+ * and answers lookups straight from the memory-mapped file
+ * 
+ * File layout (big-endian):
+ * - header: magic, version, target score, modifier percentage, number of states,
+ *   offset of the decisions and offset of the win probabilities
+ * - decisions: one bit per state (1 = roll, 0 = hold), packed into longs
+ * - win probabilities: one unsigned 16-bit value per state (probability * 65535)
+ * States are ordered as in StateIndex
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class PolicyTable 
+{
+	//Identifies a policy table file ("PIGP")
+	private static final int MAGIC = 0x50494750;
+	
+	//Version of the file layout
+	private static final int VERSION = 1;
+	
+	//Size of the header in bytes
+	private static final int HEADER_SIZE = 32;
+	
+	//Largest target score whose states can be numbered with an int
+	private static final int MAX_TARGET_SCORE = 1625;
+	
+	//Largest quantized win probability
+	private static final int MAX_QUANTIZED = 0xFFFF;
+	
+	//The mapped file
+	private ByteBuffer buffer;
+	
+	//Maps states to positions in the file
+	private StateIndex stateIndex;
+	
+	//Score to reach in order to win
+	private int targetScore;
+	
+	//Positions of the decisions and win probabilities in the file
+	private int decisionsOffset;
+	private int probabilitiesOffset;
+	
+	/**
+	 * Constructor
+	 * @param buffer (ByteBuffer) the contents of a policy table file
+	 * @throws IOException if the contents are not a valid policy table for these rules
+	 */
+	private PolicyTable(ByteBuffer buffer) throws IOException
+	{
+		if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+		{
+			throw new IOException("Not a policy table file");
+		}
+		
+		if(buffer.getInt(4) != VERSION)
+		{
+			throw new IOException("Unsupported policy table version: " + buffer.getInt(4));
+		}
+		
+		if(buffer.getInt(12) != Die.MODIFIER_PERCENTAGE)
+		{
+			throw new IOException("Policy table was solved for a modifier percentage of " + buffer.getInt(12));
+		}
+		
+		int target = buffer.getInt(8);
+		int stateCount = buffer.getInt(16);
+		int decisions = buffer.getInt(20);
+		int probabilities = buffer.getInt(24);
+		
+		//Check the header before anything is allocated from it: every state of the
+		//target score has to be in the file, after the header and in order
+		long expectedStates = (long) target * target * (target + 1) / 2;
+		
+		if(target <= 0 || target > MAX_TARGET_SCORE || stateCount != expectedStates ||
+		   decisions < HEADER_SIZE || 
+		   probabilities < decisions + (((stateCount + 63L) / 64) * 8) ||
+		   buffer.capacity() < probabilities + (2L * stateCount))
+		{
+			throw new IOException("Policy table file is truncated or corrupt");
+		}
+		
+		this.buffer = buffer;
+		this.targetScore = target;
+		this.stateIndex = new StateIndex(targetScore);
+		this.decisionsOffset = decisions;
+		this.probabilitiesOffset = probabilities;
+	}
+	
+	//Getter methods
+	public int getTargetScore() {return targetScore;}
+	public int getStateCount() {return stateIndex.getSize();}
+	
+	/**
+	 * Method that memory-maps a policy table file
+	 * Nothing is read until a state is looked up
+	 * @param path (Path) location of the file
+	 * @return the PolicyTable
+	 * @throws IOException if the file cannot be read or is not a valid policy table
+	 */
+	public static PolicyTable load(Path path) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			
+			return new PolicyTable(buffer);
+		}
+	}
+	
+	/**
+	 * Method that writes the policy found by a solver to a file
+	 * @param solver (PigSolver) a solver that has finished solving
+	 * @param path (Path) location of the file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(PigSolver solver, Path path) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, getFileSize(solver));
+			
+			fill(solver, buffer);
+			
+			buffer.force();
+		}
+	}
+	
+	/**
+	 * Method that builds a PolicyTable on the heap, for when the file cannot be written
+	 * @param solver (PigSolver) a solver that has finished solving
+	 * @return the PolicyTable
+	 */
+	public static PolicyTable create(PigSolver solver)
+	{
+		ByteBuffer buffer = ByteBuffer.allocate((int) getFileSize(solver));
+		fill(solver, buffer);
+		
+		try
+		{
+			return new PolicyTable(buffer);
+		}
+		catch(IOException e)
+		{
+			//The buffer was just filled with a valid table
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Method that gives the size of the policy table file of a solver
+	 */
+	private static long getFileSize(PigSolver solver)
+	{
+		int stateCount = solver.getStateIndex().getSize();
+		
+		return HEADER_SIZE + (((stateCount + 63) / 64) * 8L) + (2L * stateCount);
+	}
+	
+	/**
+	 * Method that writes the header, decisions and win probabilities of a solver into a buffer
+	 * @param solver (PigSolver) a solver that has finished solving
+	 * @param buffer (ByteBuffer) a buffer of getFileSize(solver) bytes
+	 */
+	private static void fill(PigSolver solver, ByteBuffer buffer)
+	{
+		int target = solver.getTargetScore();
+		StateIndex index = solver.getStateIndex();
+		int stateCount = index.getSize();
+		
+		int decisionsOffset = HEADER_SIZE;
+		int probabilitiesOffset = decisionsOffset + (((stateCount + 63) / 64) * 8);
+			
+		//Header
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, target);
+		buffer.putInt(12, Die.MODIFIER_PERCENTAGE);
+		buffer.putInt(16, stateCount);
+		buffer.putInt(20, decisionsOffset);
+		buffer.putInt(24, probabilitiesOffset);
+			
+		//Decisions and win probabilities
+		long bits = 0;
+			
+		for(int myScore = 0; myScore < target; myScore++)
+		{
+			for(int opponentScore = 0; opponentScore < target; opponentScore++)
+			{
+				for(int turnScore = 0; turnScore < target - myScore; turnScore++)
+				{
+					int i = index.index(myScore, opponentScore, turnScore);
+						
+					if(solver.shouldRoll(myScore, opponentScore, turnScore) == true)
+					{
+						bits |= (1L << i);
+					}
+						
+					if((i & 63) == 63 || i == stateCount - 1)
+					{
+						buffer.putLong(decisionsOffset + ((i >> 6) * 8), bits);
+						bits = 0;
+					}
+						
+					double probability = solver.getWinProbability(myScore, opponentScore, turnScore);
+					buffer.putChar(probabilitiesOffset + (i * 2), (char) Math.round(probability * MAX_QUANTIZED));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Method that tells if the Player should roll again
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @return true if the Player should roll, false if the Player should hold
+	 */
+	public boolean shouldRoll(int myScore, int opponentScore, int turnScore)
+	{
+		if(myScore + turnScore >= targetScore)
+		{
+			return false;
+		}
+		
+		int index = stateIndex.index(myScore, opponentScore, turnScore);
+		long bits = buffer.getLong(decisionsOffset + ((index >> 6) * 8));
+		
+		return (bits & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Method that gives the probability that the Player about to decide wins
+	 * The value is accurate to about 1/65535
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @return the win probability when both Players play perfectly
+	 */
+	public double getWinProbability(int myScore, int opponentScore, int turnScore)
+	{
+		if(myScore + turnScore >= targetScore)
+		{
+			return 1;
+		}
+		
+		int index = stateIndex.index(myScore, opponentScore, turnScore);
+		
+		return (double) buffer.getChar(probabilitiesOffset + (index * 2)) / MAX_QUANTIZED;
+	}
+	
+	/**
+	 * Solves a target score, writes the policy table file and loads it back
+	 * Arguments: targetScore file [threads]
+	 * 
+	 * @param args command line arguments
+	 * @throws IOException if the file cannot be written or read
+	 */
+	public static void main(String args[]) throws IOException
+	{
+		int targetScore = Integer.parseInt(args[0]);
+		Path path = Paths.get(args[1]);
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : 1;
+		
+		PigSolver solver = new PigSolver(targetScore);
+		solver.setParallelism(threads);
+		solver.solve();
+		
+		write(solver, path);
+		
+		long startTime = System.nanoTime();
+		PolicyTable table = load(path);
+		long loadNanos = System.nanoTime() - startTime;
+		
+		int mismatches = 0;
+		
+		for(int myScore = 0; myScore < targetScore; myScore++)
+		{
+			for(int opponentScore = 0; opponentScore < targetScore; opponentScore++)
+			{
+				for(int turnScore = 0; turnScore < targetScore - myScore; turnScore++)
+				{
+					if(table.shouldRoll(myScore, opponentScore, turnScore) != 
+					   solver.shouldRoll(myScore, opponentScore, turnScore))
+					{
+						++mismatches;
+					}
+				}
+			}
+		}
+		
+		System.out.printf("Wrote %s: %,d states, %,d bytes%n", path, table.getStateCount(), path.toFile().length());
+		System.out.printf("Load time:      %.3f ms%n", loadNanos / 1000000.0);
+		System.out.printf("Mismatches:     %d%n", mismatches);
+		System.out.printf("P(first player wins): %.6f%n", table.getWinProbability(0, 0, 0));
+	}
+}
@@ -0,0 +1,64 @@
+package solver;
+
+/**
+ * StateIndex class maps a game state (myScore, opponentScore, turnScore)
+ * to a position in a flat array
+ * 
+ * Only states where myScore + turnScore is below the target score are stored,
+ * since a Player reaching the target can stop and win right away
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class StateIndex 
+{
+	//Score to reach in order to win
+	private int targetScore;
+	
+	//Position of the first state for each myScore
+	private int[] offsets;
+	
+	//Total number of states
+	private int size;
+	
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 */
+	public StateIndex(int targetScore)
+	{
+		this.targetScore = targetScore;
+		this.offsets = new int[targetScore];
+		
+		long total = 0;
+		
+		for(int myScore = 0; myScore < targetScore; myScore++)
+		{
+			offsets[myScore] = (int) total;
+			total += (long) targetScore * (targetScore - myScore);
+		}
+		
+		if(total > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException("Target score too large: " + targetScore);
+		}
+		
+		this.size = (int) total;
+	}
+	
+	//Getter methods
+	public int getTargetScore() {return targetScore;}
+	public int getSize() {return size;}
+	
+	/**
+	 * Method that gives the position of a state
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @return the position of the state
+	 */
+	public int index(int myScore, int opponentScore, int turnScore)
+	{
+		return offsets[myScore] + (opponentScore * (targetScore - myScore)) + turnScore;
+	}
+}
@@ -6,9 +6,11 @@ import java.awt.Font;
 import java.awt.image.BufferedImage;
 
 import button.*;
+import helper.TextCache;
 import helper.TextSize;
 import main.GamePanel;
 import manager.ImageManager;
+import manager.InputDispatcher;
 import manager.MouseManager;
 import manager.StateManager;
 import transition.*;
@@ -25,6 +27,7 @@ public class MainState extends State
 	private String titleText;
 	private String authorText;
 	private String versionText;
+	private String loadingText;
 	
 	//To manage images
 	private ImageManager imageManager;
@@ -32,11 +35,14 @@ public class MainState extends State
 	//The next state to go to
 	private StateType nextState;
 	
-	//Buttons
+	//Buttons (null until the button images are loaded)
 	private ImageButton newGameButton;
 	private ImageButton rulesButton;
 	private ImageButton optionsButton;
 	
+	//Gives mouse events to the Buttons
+	private InputDispatcher inputDispatcher;
+	
 	//Transitions
 	private FadeToBlack fadeToBlack;
 	
@@ -50,8 +56,13 @@ public class MainState extends State
 		this.nextState = null;
 		
 		createTexts();
-		createButtons();
 		createTransitions();
+		
+		//Buttons are created once their images are loaded, until then a loading frame is shown
+		if(imageManager.isButtonsLoaded())
+		{
+			createButtons();
+		}
 	}
 	
 ////////////////////////////////////////////// CREATE METHODS //////////////////////////////////////////////
@@ -60,6 +71,7 @@ public class MainState extends State
 		this.titleText = "PIG DICE GAME";
 		this.authorText = "VISE";
 		this.versionText = "Ver. 1.0";
+		this.loadingText = "Loading...";
 	}
 	
 	/**
@@ -84,6 +96,12 @@ public class MainState extends State
 		optionsButton = new ImageButton(buttonImages[4], buttonImages[5]);
 		optionsButton.setX((GamePanel.WIDTH / 2) - (optionsButton.getWidth() / 2));
 		optionsButton.setY(rulesButton.getY() + rulesButton.getHeight() + 25);
+		
+		//Give mouse events to the Buttons
+		inputDispatcher = new InputDispatcher(GamePanel.WIDTH, GamePanel.HEIGHT);
+		inputDispatcher.register(newGameButton);
+		inputDispatcher.register(rulesButton);
+		inputDispatcher.register(optionsButton);
 	}
 	
 	private void createTransitions()
@@ -121,6 +139,20 @@ public class MainState extends State
 	 */
 	private void updateButtons()
 	{
+		//Create buttons once their images have been loaded
+		if(newGameButton == null)
+		{
+			if(imageManager.isButtonsLoaded() == false)
+			{
+				return;
+			}
+			
+			createButtons();
+		}
+		
+		//Tell the Buttons what the mouse did
+		inputDispatcher.update();
+		
 		//Update Button
 		newGameButton.update();
 		rulesButton.update();
@@ -167,6 +199,17 @@ public class MainState extends State
 		}
 	}
 	
+	/**
+	 * Method that tells if the MainState changes without any input
+	 * Buttons only change when the mouse moves or clicks
+	 * 
+	 * @return true while images are loading, the Transition is running or the State is about to change, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return newGameButton == null || fadeToBlack.isAnimating() || nextState != null;
+	}
+	
 	/**
 	 * Method that updates MenuState
 	 */
@@ -206,7 +249,7 @@ public class MainState extends State
 	{
 		//Draw Title
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 64));
+		g.setFont(TextCache.getFont(Font.BOLD, 64));
 		int titleWidth = TextSize.getTextWidth(titleText, g);
 		g.drawString(titleText, (GamePanel.WIDTH / 2) - (titleWidth / 2), 100);
 	}
@@ -218,7 +261,7 @@ public class MainState extends State
 	private void drawAuthorText(Graphics2D g)
 	{
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 16));
+		g.setFont(TextCache.getFont(Font.BOLD, 16));
         g.drawString(authorText, 5, GamePanel.HEIGHT - 5);
 	}
 	
@@ -229,17 +272,57 @@ public class MainState extends State
 	private void drawVersionText(Graphics2D g)
 	{
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 16));
-		int versionWidth = (int) g.getFontMetrics().getStringBounds(versionText, g).getWidth();
+		g.setFont(TextCache.getFont(Font.BOLD, 16));
+		int versionWidth = TextSize.getTextWidth(versionText, g);
 		g.drawString(versionText, GamePanel.WIDTH - versionWidth, GamePanel.HEIGHT - 5);
 	}
 	
+	/**
+	 * Method that draws the loadingText
+	 * @param g The Graphics2D object to be drawn on
+	 */
+	private void drawLoadingText(Graphics2D g)
+	{
+		g.setColor(Color.BLACK);
+		g.setFont(TextCache.getFont(Font.BOLD, 24));
+		int loadingWidth = TextSize.getTextWidth(loadingText, g);
+		g.drawString(loadingText, (GamePanel.WIDTH / 2) - (loadingWidth / 2), GamePanel.HEIGHT / 2);
+	}
+	
+	/**
+	 * Method that draws the error of the ImageManager if an image could not be loaded
+	 * Placeholder images are shown in place of the missing images
+	 * 
+	 * @param g The Graphics2D object to be drawn on
+	 */
+	private void drawLoadError(Graphics2D g)
+	{
+		String loadError = imageManager.getLoadError();
+		
+		if(loadError == null)
+		{
+			return;
+		}
+		
+		g.setColor(Color.RED);
+		g.setFont(TextCache.getFont(Font.BOLD, 16));
+		int errorWidth = TextSize.getTextWidth(loadError, g);
+		g.drawString(loadError, (GamePanel.WIDTH / 2) - (errorWidth / 2), GamePanel.HEIGHT - 30);
+	}
+	
 	/**
 	 * Method that draws the buttons
 	 * @param g The Graphics2D object to be drawn on
 	 */
 	private void drawButtons(Graphics2D g)
 	{
+		//Buttons are not created while images are loading
+		if(newGameButton == null)
+		{
+			drawLoadingText(g);
+			return;
+		}
+		
 		//Draw Buttons
 		newGameButton.draw(g);
 		rulesButton.draw(g);
@@ -267,6 +350,7 @@ public class MainState extends State
 		drawAuthorText(g);
 		drawVersionText(g);
 		drawButtons(g);
+		drawLoadError(g);
 		drawTransitions(g);
 	}
 }
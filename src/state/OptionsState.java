@@ -6,12 +6,15 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import button.*;
+import helper.TextCache;
 import helper.TextSize;
 import main.GamePanel;
 import manager.ImageManager;
+import manager.InputDispatcher;
 import manager.MouseManager;
 import manager.StateManager;
 import manager.OptionsManager;
+import strategy.StrategyType;
 import transition.*;
 
 /**
@@ -34,6 +37,7 @@ public class OptionsState extends State
 	private String titleText;
 	private String dieColorText;
 	private String targetScoreText;
+	private String player2Text;
 	
 	//Max number of colors for dice
 	private static final int NUM_COLORS = 3;
@@ -49,10 +53,20 @@ public class OptionsState extends State
 	private ImageButton[] targetOptions;
 	private int targetIndex;
 	
+	//Who controls Player 2
+	private TextButton player2Option;
+	private int player2Index;
+	
+	//Names of the Player 2 options (same order as StrategyType)
+	private static final String[] PLAYER_2_NAMES = {"Human", "CPU: Hold at 20", "CPU: Race", "CPU: Optimal"};
+	
 	//Buttons
 	private ImageButton menuButton;
 	private ImageButton newGameButton;
 	
+	//Gives mouse events to the Buttons
+	private InputDispatcher inputDispatcher;
+	
 	//Transitions
 	private FadeToBlack fadeToBlack;
 	
@@ -88,6 +102,11 @@ public class OptionsState extends State
 			targetIndex = 0;
 		}
 		
+		player2Index = optionsManager.getPlayer2Type().ordinal();
+		
+		//Gives mouse events to the Buttons and options
+		this.inputDispatcher = new InputDispatcher(GamePanel.WIDTH, GamePanel.HEIGHT);
+		
 		createTexts();
 		createOptions();
 		createButtons();
@@ -110,6 +129,9 @@ public class OptionsState extends State
 		this.newGameButton = new ImageButton(buttons[0], buttons[1]);
 		this.newGameButton.setX(GamePanel.WIDTH - (newGameButton.getWidth() + 10));
 		this.newGameButton.setY(GamePanel.HEIGHT - (newGameButton.getHeight() + 10));		
+		
+		this.inputDispatcher.register(menuButton);
+		this.inputDispatcher.register(newGameButton);
 	}
 	
 	private void createOptions()
@@ -127,6 +149,15 @@ public class OptionsState extends State
 		//Target score options
 		this.targetOptions[0] = new ImageButton(750, 270, options[6], options[7]);
 		this.targetOptions[1] = new ImageButton(750, 270, options[8], options[9]);
+		
+		//Player 2 options
+		this.player2Option = new TextButton(750, 370, 300, 32, PLAYER_2_NAMES[player2Index], 
+				TextCache.getFont(Font.BOLD, 24));
+		
+		//Only the option that is shown gets mouse events
+		this.inputDispatcher.register(colorOptions[colorIndex]);
+		this.inputDispatcher.register(targetOptions[targetIndex]);
+		this.inputDispatcher.register(player2Option);
 	}
 	
 	private void createTexts()
@@ -134,6 +165,7 @@ public class OptionsState extends State
 		this.titleText = "OPTIONS";
 		this.dieColorText = "Dice Color:";
 		this.targetScoreText = "Target Score:";
+		this.player2Text = "Player 2:";
 	}
 	
 	private void createTransitions()
@@ -170,6 +202,9 @@ public class OptionsState extends State
 	 */
 	private void updateButtons()
 	{
+		//Tell the Buttons what the mouse did
+		inputDispatcher.update();
+		
 		//Update Buttons
 		menuButton.update();
 		newGameButton.update();
@@ -210,11 +245,10 @@ public class OptionsState extends State
 	 */
 	private void updateColorOptions()
 	{
-		colorOptions[colorIndex].update();
-		
 		if(colorOptions[colorIndex].isMouseClickingButton())
 		{
 			colorOptions[colorIndex].setMouseClickingButton(false);
+			inputDispatcher.unregister(colorOptions[colorIndex]);
 			
 			++colorIndex;
 			if(colorIndex >= NUM_COLORS)
@@ -222,8 +256,10 @@ public class OptionsState extends State
 				colorIndex = 0;
 			}
 			
-			return;
+			inputDispatcher.register(colorOptions[colorIndex]);
 		}
+		
+		colorOptions[colorIndex].update();
 	}
 	
 	/**
@@ -231,11 +267,10 @@ public class OptionsState extends State
 	 */
 	private void updateTargetOptions()
 	{
-		targetOptions[targetIndex].update();
-		
 		if(targetOptions[targetIndex].isMouseClickingButton())
 		{
 			targetOptions[targetIndex].setMouseClickingButton(false);
+			inputDispatcher.unregister(targetOptions[targetIndex]);
 			
 			++targetIndex;
 			if(targetIndex >= NUM_TARGETS)
@@ -243,7 +278,30 @@ public class OptionsState extends State
 				targetIndex = 0;
 			}
 			
-			return;
+			inputDispatcher.register(targetOptions[targetIndex]);
+		}
+		
+		targetOptions[targetIndex].update();
+	}
+	
+	/**
+	 * Method that updates the Player 2 option
+	 */
+	private void updatePlayer2Option()
+	{
+		player2Option.update();
+		
+		if(player2Option.isMouseClickingButton())
+		{
+			player2Option.setMouseClickingButton(false);
+			
+			++player2Index;
+			if(player2Index >= PLAYER_2_NAMES.length)
+			{
+				player2Index = 0;
+			}
+			
+			player2Option.setText(PLAYER_2_NAMES[player2Index]);
 		}
 	}
 	
@@ -278,8 +336,21 @@ public class OptionsState extends State
 			default:
 				break;
 		}
+		
+		optionsManager.setPlayer2Type(StrategyType.values()[player2Index]);
 	}
 		
+	/**
+	 * Method that tells if the OptionsState changes without any input
+	 * Options only change when they are clicked
+	 * 
+	 * @return true while the Transition is running or the State is about to change, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return fadeToBlack.isAnimating() || nextState != null;
+	}
+	
 	/**
 	 * Method that updates the OptionsState
 	 */
@@ -298,6 +369,7 @@ public class OptionsState extends State
 		updateButtons();
 		updateColorOptions();
 		updateTargetOptions();
+		updatePlayer2Option();
 		updateOptionsManager();
 	}
 	
@@ -321,7 +393,7 @@ public class OptionsState extends State
 	{
 		//Draw Title
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 64));
+		g.setFont(TextCache.getFont(Font.BOLD, 64));
 		int titleWidth = TextSize.getTextWidth(titleText, g);
 		g.drawString(titleText, (GamePanel.WIDTH / 2) - (titleWidth / 2), 100);
 	}
@@ -333,7 +405,7 @@ public class OptionsState extends State
 	private void drawDieColorText(Graphics2D g)
 	{
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 24));
+		g.setFont(TextCache.getFont(Font.BOLD, 24));
 		g.drawString(dieColorText, 400, 200);
 	}
 	
@@ -344,10 +416,21 @@ public class OptionsState extends State
 	private void drawTargetScoreText(Graphics2D g)
 	{
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 24));
+		g.setFont(TextCache.getFont(Font.BOLD, 24));
 		g.drawString(targetScoreText, 400, 300);
 	}
 	
+	/**
+	 * Method that draws the player2Text
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	private void drawPlayer2Text(Graphics2D g)
+	{
+		g.setColor(Color.BLACK);
+		g.setFont(TextCache.getFont(Font.BOLD, 24));
+		g.drawString(player2Text, 400, 400);
+	}
+	
 	/**
 	 * Method that draws the options
 	 * @param g (Graphics2D) The Graphics2D object to be drawn on
@@ -357,6 +440,7 @@ public class OptionsState extends State
 		//Draw options
 		colorOptions[colorIndex].draw(g);
 		targetOptions[targetIndex].draw(g);
+		player2Option.draw(g);
 	}
 	
 	/**
@@ -389,6 +473,7 @@ public class OptionsState extends State
 		drawTitleText(g);
 		drawDieColorText(g);
 		drawTargetScoreText(g);
+		drawPlayer2Text(g);
 		drawOptions(g);
 		drawButtons(g);
 		drawTransitions(g);
@@ -3,17 +3,27 @@ package state;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 
 import button.*;
 import context.Context;
+import effect.ParticleSystem;
+import effect.ScreenShake;
+import effect.TextPopups;
 import entity.DieObject;
-import helper.TextSize;
+import entity.Entity;
+import helper.Collision;
+import helper.DirtyRegion;
+import helper.TextCache;
 import main.GamePanel;
 import manager.ImageManager;
+import manager.InputDispatcher;
 import manager.MouseManager;
 import manager.StateManager;
 import manager.OptionsManager;
+import timeline.Clock;
 import transition.*;
 
 /**
@@ -47,6 +57,9 @@ public class PlayState extends State
 	private ImageButton rollButton;
 	private ImageButton stopButton;
 	
+	//Gives mouse events to the Buttons
+	private InputDispatcher inputDispatcher;
+	
 	//Strings to be displayed
 	private String player1;
 	private String player2;
@@ -56,9 +69,47 @@ public class PlayState extends State
 	//Flag to indicate if game is over
 	private boolean gameOver;
 	
+	//Timer and delay before a computer Player presses Roll or Stop
+	private long computerTimer;
+	private long computerDelay;
+	
+	//Prerendered Backgrounds: backgrounds[i] is shown during the turn of Player i + 1
+	private BufferedImage[] backgrounds;
+	
+	//Background color of the half of the current Player and of the other Player
+	private static final Color ACTIVE_COLOR = new Color(240, 240, 240);
+	private static final Color INACTIVE_COLOR = new Color(250, 250, 250);
+	
 	//Transitions
 	private VerticalSplit verticalSplit;
 	
+	//Effects: a burst when a pig is rolled, confetti for the winner, texts and shakes
+	private ParticleSystem pigParticles;
+	private ParticleSystem confetti;
+	private TextPopups popups;
+	private ScreenShake screenShake;
+	
+	//Colors of the effects
+	private static final Color[] PIG_COLORS = {new Color(255, 105, 180), new Color(255, 182, 193), new Color(219, 112, 147)};
+	private static final Color[] CONFETTI_COLORS = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.MAGENTA};
+	
+	//Region of the screen that has to be drawn again
+	private DirtyRegion dirtyRegion;
+	
+	//Rectangle being drawn, parts of the PlayState outside of it are skipped
+	private int clipX;
+	private int clipY;
+	private int clipWidth;
+	private int clipHeight;
+	
+	//What was on the screen when the region was last checked
+	private int shownPlayerIndex;
+	private int shownPlayer1Score;
+	private int shownPlayer2Score;
+	private int shownTurnScore;
+	private boolean shownGameOver;
+	private boolean shownShaking;
+	
 	/**
 	 * Constructor
 	 */
@@ -73,8 +124,14 @@ public class PlayState extends State
 		createTexts();
 		createDieObjects();
 		createButtons();
+		createBackgrounds();
 		createTransitions();
+		createEffects();
+		createDirtyRegion();
 		this.gameOver = false;
+		
+		this.computerTimer = 0;
+		this.computerDelay = 600;
 	}
 	
 ////////////////////////////////////////////// CREATE METHODS //////////////////////////////////////////////
@@ -122,8 +179,8 @@ public class PlayState extends State
 	{
 		this.player1 = context.getPlayer1().getName();
 		this.player2 = context.getPlayer2().getName();
-		this.player1Score = String.valueOf(context.getPlayer1().getScore());
-		this.player2Score = String.valueOf(context.getPlayer1().getScore());
+		this.player1Score = TextCache.getNumber(context.getPlayer1().getScore());
+		this.player2Score = TextCache.getNumber(context.getPlayer2().getScore());
 	}
 
 	private void createButtons()
@@ -149,6 +206,40 @@ public class PlayState extends State
 		this.stopButton = new ImageButton(images[10], images[11]);
 		this.stopButton.setX((GamePanel.WIDTH / 2) - (stopButton.getWidth() / 2));
 		this.stopButton.setY(GamePanel.HEIGHT - (stopButton.getHeight() + 25));
+		
+		//Give mouse events to the Buttons
+		this.inputDispatcher = new InputDispatcher(GamePanel.WIDTH, GamePanel.HEIGHT);
+		this.inputDispatcher.register(menuButton);
+		this.inputDispatcher.register(newGameButton);
+		this.inputDispatcher.register(rollButton);
+		this.inputDispatcher.register(stopButton);
+	}
+	
+	/**
+	 * Method that renders the Background once for each Player's turn
+	 * The half of the screen of the Player whose turn it is is darker and has a red dot
+	 */
+	private void createBackgrounds()
+	{
+		this.backgrounds = new BufferedImage[2];
+		
+		for(int i = 0; i < 2; i++)
+		{
+			backgrounds[i] = ImageManager.createCompatibleImage(GamePanel.WIDTH, GamePanel.HEIGHT, Transparency.OPAQUE);
+			
+			Graphics2D g = backgrounds[i].createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			
+			g.setColor((i == 0) ? ACTIVE_COLOR : INACTIVE_COLOR);
+			g.fillRect(0, 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
+			g.setColor((i == 0) ? INACTIVE_COLOR : ACTIVE_COLOR);
+			g.fillRect((GamePanel.WIDTH / 2), 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
+			
+			g.setColor(Color.RED);
+			g.fillOval((i == 0) ? 200 : 840, 102, 16, 16);
+			
+			g.dispose();
+		}
 	}
 	
 	private void createTransitions()
@@ -156,6 +247,38 @@ public class PlayState extends State
 		this.verticalSplit = new VerticalSplit(GamePanel.WIDTH, GamePanel.HEIGHT);
 	}
 	
+	private void createEffects()
+	{
+		this.pigParticles = new ParticleSystem(PIG_COLORS, 2048, 600);
+		this.confetti = new ParticleSystem(CONFETTI_COLORS, ParticleSystem.DEFAULT_CAPACITY, 400);
+		this.popups = new TextPopups();
+		this.screenShake = new ScreenShake(500);
+	}
+	
+	private void createDirtyRegion()
+	{
+		//Starts out full so the first frame is drawn completely
+		this.dirtyRegion = new DirtyRegion(GamePanel.WIDTH, GamePanel.HEIGHT);
+		
+		//Dice and Buttons mark themselves when they move or change image
+		die1.setDirtyRegion(dirtyRegion);
+		die2.setDirtyRegion(dirtyRegion);
+		menuButton.setDirtyRegion(dirtyRegion);
+		newGameButton.setDirtyRegion(dirtyRegion);
+		rollButton.setDirtyRegion(dirtyRegion);
+		stopButton.setDirtyRegion(dirtyRegion);
+		pigParticles.setDirtyRegion(dirtyRegion);
+		confetti.setDirtyRegion(dirtyRegion);
+		popups.setDirtyRegion(dirtyRegion);
+		
+		this.shownPlayerIndex = context.getCurrentPlayerIndex();
+		this.shownPlayer1Score = context.getPlayer1Score();
+		this.shownPlayer2Score = context.getPlayer2Score();
+		this.shownTurnScore = context.getTurnScore();
+		this.shownGameOver = false;
+		this.shownShaking = false;
+	}
+	
 ////////////////////////////////////////////// UPDATE METHODS //////////////////////////////////////////////
 	
 	private void updateTransitions()
@@ -163,6 +286,114 @@ public class PlayState extends State
 		verticalSplit.update();
 	}
 	
+	/**
+	 * Method that updates the effects
+	 */
+	private void updateEffects()
+	{
+		pigParticles.update();
+		confetti.update();
+		popups.update();
+		screenShake.update();
+	}
+	
+	/**
+	 * Method that starts the effects of a roll in which pigs were rolled
+	 * @param pigs (integer) the number of pigs rolled, 1 or 2
+	 */
+	private void startPigEffects(int pigs)
+	{
+		int centerX = GamePanel.WIDTH / 2;
+		int centerY = (GamePanel.HEIGHT / 2) - (die1.getHeight() / 2);
+		
+		if(pigs == 1)
+		{
+			pigParticles.emit(400, centerX, centerY, 100, 400, 1.0);
+			popups.add("PIG!", 48, Color.RED, centerX, centerY - 75, 1000);
+			screenShake.start(6);
+		}
+		else
+		{
+			pigParticles.emit(1200, centerX, centerY, 150, 600, 1.5);
+			popups.add("PIG PIG! Score lost", 40, Color.RED, centerX, centerY - 75, 1500);
+			screenShake.start(14);
+		}
+	}
+	
+	/**
+	 * Method that starts the effects for the winner
+	 */
+	private void startWinnerEffects()
+	{
+		int winnerIndex = context.getWinnerIndex();
+		int centerX = (winnerIndex == 0) ? (GamePanel.WIDTH / 4) : (GamePanel.WIDTH - (GamePanel.WIDTH / 4));
+		int centerY = GamePanel.HEIGHT / 3;
+		
+		//Bursts on both sides of the winner text and above it
+		confetti.emit(1400, centerX - 150, centerY, 100, 700, 2.5);
+		confetti.emit(1400, centerX + 150, centerY, 100, 700, 2.5);
+		confetti.emit(1200, centerX, centerY - 50, 50, 500, 2.5);
+	}
+	
+	/**
+	 * Method that marks the parts of the screen that are not Entities and have changed
+	 */
+	private void updateDirtyRegion()
+	{
+		//The background shows whose turn it is, and the Transition and the shake move everything
+		boolean shaking = screenShake.isShaking();
+		
+		if(context.getCurrentPlayerIndex() != shownPlayerIndex || gameOver != shownGameOver || verticalSplit.isRunning() ||
+		   shaking == true || shaking != shownShaking)
+		{
+			dirtyRegion.addAll();
+			
+			shownPlayerIndex = context.getCurrentPlayerIndex();
+			shownGameOver = gameOver;
+			shownShaking = shaking;
+		}
+		
+		if(context.getPlayer1Score() != shownPlayer1Score)
+		{
+			markText(GamePanel.WIDTH / 4, (GamePanel.HEIGHT / 6) + 50, 36);
+			shownPlayer1Score = context.getPlayer1Score();
+		}
+		
+		if(context.getPlayer2Score() != shownPlayer2Score)
+		{
+			markText(GamePanel.WIDTH - (GamePanel.WIDTH / 4), (GamePanel.HEIGHT / 6) + 50, 36);
+			shownPlayer2Score = context.getPlayer2Score();
+		}
+		
+		if(context.getTurnScore() != shownTurnScore)
+		{
+			markText(GamePanel.WIDTH / 2, (GamePanel.HEIGHT / 2) + 125, 24);
+			shownTurnScore = context.getTurnScore();
+		}
+	}
+	
+	/**
+	 * Method that marks the area of a centered line of text as changed
+	 * The area is wide enough for 10 characters of the font
+	 * 
+	 * @param centerX (integer) x-coordinate of the center of the text
+	 * @param baseline (integer) y-coordinate of the baseline of the text
+	 * @param fontSize (integer) size of the font
+	 */
+	private void markText(int centerX, int baseline, int fontSize)
+	{
+		dirtyRegion.add(centerX - (fontSize * 5), baseline - fontSize, fontSize * 10, fontSize + (fontSize / 2));
+	}
+	
+	/**
+	 * Method that gives the region of the screen that changed since the last frame was shown
+	 * @return the DirtyRegion
+	 */
+	public DirtyRegion getDirtyRegion()
+	{
+		return dirtyRegion;
+	}
+	
 	/**
 	 * Method that changes the state
 	 */
@@ -182,11 +413,25 @@ public class PlayState extends State
 	 */
 	private void updateButtons()
 	{
+		//Tell the Buttons what the mouse did
+		inputDispatcher.update();
+		
 		//Update Buttons
 		menuButton.update();
 		newGameButton.update();
-		rollButton.update();
-		stopButton.update();
+		
+		//Roll and Stop are pressed by the computer during its turn
+		if(context.getCurrentPlayer().isComputer() == false)
+		{
+			rollButton.update();
+			stopButton.update();
+		}
+		else
+		{
+			//Ignore clicks on them
+			rollButton.setMouseClickingButton(false);
+			stopButton.setMouseClickingButton(false);
+		}
 		
 		//Checks to see if an action needs to be performed if a Button has been clicked
 		performButtonAction();
@@ -221,58 +466,130 @@ public class PlayState extends State
 		{
 			rollButton.setMouseClickingButton(false);
 					
-			//Disable buttons
-			rollButton.setDisabled(true);
-			stopButton.setDisabled(true);
-					
-			//Tell Dices to start rolling
-			die1.setRolling(true);
-			die2.setRolling(true);
-			
-			die1.setY(0 - die1.getHeight());
-			die2.setY(0 - die2.getHeight());
-			
+			rollDice();
 		}
 		else if(stopButton.isMouseClickingButton() == true) //stopButton pressed
 		{
 			stopButton.setMouseClickingButton(false);
+			
+			stopRolling();
+		}
+	}
+	
+	/**
+	 * Method that starts the rolling animation (Roll action)
+	 */
+	private void rollDice()
+	{
+		//Disable buttons
+		rollButton.setDisabled(true);
+		stopButton.setDisabled(true);
 					
-			//Tell context that player is done rolling
-			context.doneRolling();
+		//Tell Dices to start rolling at the same time
+		long startTime = die1.getClock().nanoTime();
+		die1.roll(startTime);
+		die2.roll(startTime);
+	}
+			
+	/**
+	 * Method that ends the current Player's turn (Stop action)
+	 */
+	private void stopRolling()
+	{
+		//Tell context that player is done rolling
+		context.doneRolling();
 					
-			//Check if game over
-			if(context.isGameOver() == true)
+		//Check if game over
+		if(context.isGameOver() == true)
+		{
+			gameOver = true;
+			startWinnerEffects();
+		}
+		else
+		{
+			//Tell context to go to next player's turn
+			context.nextPlayer();
+		}
+	}
+	
+	/**
+	 * Method that presses Roll or Stop for a computer Player
+	 * Waits computerDelay milliseconds of the default Clock before each action so the
+	 * turn can be followed on screen, the decision itself is a table or threshold lookup
+	 */
+	private void updateComputerPlayer()
+	{
+		if(gameOver == true || areDiceRolling() == true || context.getCurrentPlayer().isComputer() == false)
+		{
+			computerTimer = 0;
+			return;
+		}
+		
+		long now = Clock.getDefault().nanoTime();
+		
+		if(computerTimer == 0)
+		{
+			computerTimer = now;
+		}
+		else if(((now - computerTimer) / 1000000) > computerDelay)
+		{
+			computerTimer = 0;
+			
+			if(context.computerWantsToRoll() == true)
 			{
-				gameOver = true;
+				rollDice();
 			}
 			else
 			{
-				//Tell context to go to next player's turn
-				context.nextPlayer();
+				stopRolling();
 			}
 		}
 	}
 	
+	/**
+	 * Method that tells if the rolling animation is running
+	 * @return true while either die is rolling, otherwise false
+	 */
+	private boolean areDiceRolling()
+	{
+		return die1.isRolling() || die2.isRolling();
+	}
+	
+	/**
+	 * Method that tells if the PlayState changes without any input
+	 * @return true while the dice roll, a computer Player is playing, the Transition
+	 * is running, an effect is shown or the State is about to change, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return verticalSplit.isAnimating() || nextState != null || areDiceRolling() || 
+				(gameOver == false && context.getCurrentPlayer().isComputer()) ||
+				pigParticles.isActive() || confetti.isActive() || popups.isActive() || screenShake.isShaking();
+	}
+	
 	/**
 	 * Method that updates the PlayState
 	 */
 	public void update()
 	{	
 		updateTransitions();
+		updateEffects();
 		
 		if(verticalSplit.isRunning())
 		{
+			updateDirtyRegion();
 			return;
 		}
 		
 		changeState();
 		
 		updateButtons();
+		updateComputerPlayer();
 		
-		//Rolling animation
-		if(die1.isRolling() == true && die2.isRolling() == true)
+		//Rolling animation (runs until both dice have come to rest)
+		if(areDiceRolling() == true)
 		{
-			//Update dices
+			//Update dices, a die that has come to rest stays still
 			die1.update();
 			die2.update();
 			
@@ -292,6 +609,8 @@ public class PlayState extends State
 				//If a pig was rolled
 				if(value == 1 || value == 2)
 				{
+					startPigEffects(value);
+					
 					//Go to next player
 					context.nextPlayer();
 				}
@@ -312,6 +631,8 @@ public class PlayState extends State
 				stopButton.setDisabled(true);
 			}
 		}
+		
+		updateDirtyRegion();
 	}
 	
 ////////////////////////////////////////////// DRAW METHODS //////////////////////////////////////////////
@@ -322,27 +643,8 @@ public class PlayState extends State
 	 */
 	private void drawBackground(Graphics2D g)
 	{
-		//Draw Background
-		if(context.getCurrentPlayer().getName().equals(context.getPlayer1().getName()))
-		{
-			g.setColor(new Color(240, 240, 240));
-			g.fillRect(0, 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
-			g.setColor(new Color(250, 250, 250));
-			g.fillRect((GamePanel.WIDTH / 2), 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
-			
-			g.setColor(Color.RED);
-			g.fillOval(200, 102, 16, 16);
-		}
-		else
-		{
-			g.setColor(new Color(250, 250, 250));
-			g.fillRect(0, 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
-			g.setColor(new Color(240, 240, 240));
-			g.fillRect((GamePanel.WIDTH / 2), 0, (GamePanel.WIDTH / 2), GamePanel.HEIGHT);
-			
-			g.setColor(Color.RED);
-			g.fillOval(840, 102, 16, 16);
-		}
+		//Draw the prerendered Background of the current Player
+		g.drawImage(backgrounds[context.getCurrentPlayerIndex()], 0, 0, null);
 	}
 	
 	/**
@@ -351,10 +653,10 @@ public class PlayState extends State
 	 */
 	private void drawButtons(Graphics2D g)
 	{
-		menuButton.draw(g);
-		newGameButton.draw(g);
-		rollButton.draw(g);
-		stopButton.draw(g);
+		if(isInClip(menuButton)) {menuButton.draw(g);}
+		if(isInClip(newGameButton)) {newGameButton.draw(g);}
+		if(isInClip(rollButton)) {rollButton.draw(g);}
+		if(isInClip(stopButton)) {stopButton.draw(g);}
 	}
 	
 	/**
@@ -363,8 +665,26 @@ public class PlayState extends State
 	 */
 	private void drawDices(Graphics2D g)
 	{
-		die1.draw(g);
-		die2.draw(g);
+		if(isInClip(die1)) {die1.draw(g);}
+		if(isInClip(die2)) {die2.draw(g);}
+	}
+	
+	/**
+	 * Method that checks if an area is inside the rectangle being drawn
+	 * @return true if the area and the rectangle overlap, otherwise false
+	 */
+	private boolean isInClip(int x, int y, int width, int height)
+	{
+		return Collision.aabbCollision(x, y, clipX, clipY, width, height, clipWidth, clipHeight);
+	}
+	
+	/**
+	 * Method that checks if an Entity is inside the rectangle being drawn
+	 * @return true if the Entity and the rectangle overlap, otherwise false
+	 */
+	private boolean isInClip(Entity entity)
+	{
+		return isInClip(entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight());
 	}
 	
 	/**
@@ -373,59 +693,54 @@ public class PlayState extends State
 	 */
 	private void drawStrings(Graphics2D g)
 	{
-		int textWidth;
-		g.setColor(Color.BLACK);
-		g.setFont(new Font ("Courier New", Font.BOLD, 36));
+		//Names and scores of the Players
+		if(isInClip(0, (GamePanel.HEIGHT / 6) - 36, GamePanel.WIDTH, 50 + 54))
+		{
+			drawPlayerStrings(g);
+		}
+		
+		//Turn score
+		if(isInClip(0, ((GamePanel.HEIGHT / 2) + 75) - 24, GamePanel.WIDTH, 50 + 36))
+		{
+			drawTurnScore(g);
+		}
+	}
+	
+	/**
+	 * Method that draws the names and scores of the Players
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	private void drawPlayerStrings(Graphics2D g)
+	{
+		Font font = TextCache.getFont(Font.BOLD, 36);
 		
 		//Draw Player 1 Name
-		textWidth = TextSize.getTextWidth(player1, g);
-		g.drawString(
-				player1,
-				(GamePanel.WIDTH / 4) - (textWidth / 2),
-				GamePanel.HEIGHT / 6
-		);
+		TextCache.drawCenteredText(g, player1, font, Color.BLACK, GamePanel.WIDTH / 4, GamePanel.HEIGHT / 6);
 		
 		//Draw Player 1 Score
-		player1Score = String.valueOf(context.getPlayer1Score());
-		textWidth = TextSize.getTextWidth(player1Score, g);
-		g.drawString(
-				player1Score,
-				(GamePanel.WIDTH / 4) - (textWidth / 2),
-				((GamePanel.HEIGHT / 6) + 50)
-		);
+		player1Score = TextCache.getNumber(context.getPlayer1Score());
+		TextCache.drawCenteredText(g, player1Score, font, Color.BLACK, GamePanel.WIDTH / 4, (GamePanel.HEIGHT / 6) + 50);
 		
 		//Draw Player 2 Name
-		textWidth = TextSize.getTextWidth(player2, g);
-		g.drawString(
-				player2,
-				(GamePanel.WIDTH - (GamePanel.WIDTH / 4)) - (textWidth / 2),
-				GamePanel.HEIGHT / 6
-		);
+		TextCache.drawCenteredText(g, player2, font, Color.BLACK, GamePanel.WIDTH - (GamePanel.WIDTH / 4), GamePanel.HEIGHT / 6);
 		
 		//Draw Player 2 Score
-		player2Score = String.valueOf(context.getPlayer2Score());
-		textWidth = TextSize.getTextWidth(player2Score, g);
-		g.drawString(
-				player2Score,
-				(GamePanel.WIDTH - (GamePanel.WIDTH / 4)) - (textWidth / 2),
-				((GamePanel.HEIGHT / 6) + 50)
-		);
+		player2Score = TextCache.getNumber(context.getPlayer2Score());
+		TextCache.drawCenteredText(g, player2Score, font, Color.BLACK, GamePanel.WIDTH - (GamePanel.WIDTH / 4), (GamePanel.HEIGHT / 6) + 50);
+	}
 		
-		g.setFont(new Font ("Courier New", Font.BOLD, 24));
+	/**
+	 * Method that draws the turn score
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	private void drawTurnScore(Graphics2D g)
+	{
+		Font font = TextCache.getFont(Font.BOLD, 24);
 		
 		//Draw Turn Score
-		textWidth = TextSize.getTextWidth("Current", g);
-		g.drawString(
-				"Current",
-				((GamePanel.WIDTH / 2) - (textWidth/ 2)),
-				((GamePanel.HEIGHT / 2) + 75)
-		);
-		textWidth = TextSize.getTextWidth(String.valueOf(context.getTurnScore()), g);
-		g.drawString(
-				String.valueOf(context.getTurnScore()),
-				((GamePanel.WIDTH / 2) - (textWidth / 2)),
-				((GamePanel.HEIGHT / 2) + 125)
-		);
+		TextCache.drawCenteredText(g, "Current", font, Color.BLACK, GamePanel.WIDTH / 2, (GamePanel.HEIGHT / 2) + 75);
+		TextCache.drawCenteredText(g, TextCache.getNumber(context.getTurnScore()), font, Color.BLACK, 
+				GamePanel.WIDTH / 2, (GamePanel.HEIGHT / 2) + 125);
 	}
 	
 	/**
@@ -434,24 +749,29 @@ public class PlayState extends State
 	 */
 	private void drawWinner(Graphics2D g)
 	{
-		if(context.getWinner() != null)
+		//Draw winner text on the half of the winner
+		int winnerIndex = context.getWinnerIndex();
+		
+		if(winnerIndex >= 0)
 		{
-			//Draw winner text
-			g.setColor(Color.RED);
-			g.setFont(new Font("Courier New", Font.BOLD, 36));
-			int textLength = TextSize.getTextWidth("WINNER!", g);
+			Font font = TextCache.getFont(Font.BOLD, 36);
+			int centerX = (winnerIndex == 0) ? (GamePanel.WIDTH / 4) : (GamePanel.WIDTH - (GamePanel.WIDTH / 4));
 			
-			if(context.getWinner().getName().equals("Player 1") == true)
-			{
-				g.drawString("WINNER!", (GamePanel.WIDTH / 4) - (textLength / 2), GamePanel.HEIGHT / 3);
-			}
-			else if(context.getWinner().getName().equals("Player 2") == true)
-			{
-				g.drawString("WINNER!", (GamePanel.WIDTH - (GamePanel.WIDTH / 4)) - (textLength / 2), GamePanel.HEIGHT / 3);
-			}
+			TextCache.drawCenteredText(g, "WINNER!", font, Color.RED, centerX, GamePanel.HEIGHT / 3);
 		}
 	}
 	
+	/**
+	 * Method that draws the effects
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	private void drawEffects(Graphics2D g)
+	{
+		if(isInClip(pigParticles)) {pigParticles.draw(g);}
+		if(isInClip(confetti)) {confetti.draw(g);}
+		if(isInClip(popups)) {popups.draw(g);}
+	}
+	
 	/**
 	 * Method that draws the Transitions
 	 * @param g (Graphics2D) The Graphics2D object to be drawn on
@@ -462,13 +782,53 @@ public class PlayState extends State
 	}
 	
 	/**
-	 * Method that draws everything within the PlayState
+	 * Method that draws the parts of the PlayState that changed since the last frame
+	 * Everything is drawn once per changed rectangle with the rectangle as clip,
+	 * so only the pixels inside it are touched
+	 * 
 	 * @param g (Graphics2D) The Graphics2D object to be drawn on
 	 */
 	public void draw(Graphics2D g)
+	{
+		if(dirtyRegion.isFull() == true)
+		{
+			clipX = 0;
+			clipY = 0;
+			clipWidth = GamePanel.WIDTH;
+			clipHeight = GamePanel.HEIGHT;
+			
+			drawAll(g);
+			return;
+		}
+		
+		for(int i = 0; i < dirtyRegion.getCount(); i++)
+		{
+			clipX = dirtyRegion.getX(i);
+			clipY = dirtyRegion.getY(i);
+			clipWidth = dirtyRegion.getWidth(i);
+			clipHeight = dirtyRegion.getHeight(i);
+			
+			g.setClip(clipX, clipY, clipWidth, clipHeight);
+			drawAll(g);
+		}
+		
+		g.setClip(null);
+	}
+	
+	/**
+	 * Method that draws everything within the PlayState
+	 * @param g (Graphics2D) The Graphics2D object to be drawn on
+	 */
+	private void drawAll(Graphics2D g)
 	{
 		drawBackground(g);
 		drawButtons(g);
+		
+		//Everything but the background and the Buttons shakes (the whole screen is drawn while shaking)
+		int shakeX = screenShake.getOffsetX();
+		int shakeY = screenShake.getOffsetY();
+		g.translate(shakeX, shakeY);
+		
 		drawDices(g);
 		drawStrings(g);
 		
@@ -478,6 +838,10 @@ public class PlayState extends State
 			drawWinner(g);
 		}
 		
+		drawEffects(g);
+		
+		g.translate(-shakeX, -shakeY);
+		
 		drawTransitions(g);
 	}
 }
\ No newline at end of file
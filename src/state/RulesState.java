@@ -12,9 +12,11 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 
 import button.*;
+import helper.TextCache;
 import helper.TextSize;
 import main.GamePanel;
 import manager.ImageManager;
+import manager.InputDispatcher;
 import manager.MouseManager;
 import manager.StateManager;
 import transition.*;
@@ -43,6 +45,9 @@ public class RulesState extends State
 	private ImageButton menuButton;
 	private ImageButton newGameButton;
 	
+	//Gives mouse events to the Buttons
+	private InputDispatcher inputDispatcher;
+	
 	//Transitions
 	private FadeToBlack fadeToBlack;
 	
@@ -82,6 +87,11 @@ public class RulesState extends State
 		this.newGameButton = new ImageButton(buttons[0], buttons[1]);
 		this.newGameButton.setX(GamePanel.WIDTH - (newGameButton.getWidth() + 10));
 		this.newGameButton.setY(GamePanel.HEIGHT - (newGameButton.getHeight() + 10));
+		
+		//Give mouse events to the Buttons
+		this.inputDispatcher = new InputDispatcher(GamePanel.WIDTH, GamePanel.HEIGHT);
+		this.inputDispatcher.register(menuButton);
+		this.inputDispatcher.register(newGameButton);
 	}
 	
 	private void createTransitions()
@@ -151,6 +161,9 @@ public class RulesState extends State
 	 */
 	private void updateButtons()
 	{	
+		//Tell the Buttons what the mouse did
+		inputDispatcher.update();
+		
 		menuButton.update();
 		newGameButton.update();
 		
@@ -184,6 +197,16 @@ public class RulesState extends State
 		}
 	}
 	
+	/**
+	 * Method that tells if the RulesState changes without any input
+	 * 
+	 * @return true while the Transition is running or the State is about to change, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return fadeToBlack.isAnimating() || nextState != null;
+	}
+	
 	/**
 	 * Method that updates the RuleState
 	 */
@@ -223,7 +246,7 @@ public class RulesState extends State
 	{
 		//Draw Title
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.BOLD, 64));
+		g.setFont(TextCache.getFont(Font.BOLD, 64));
 		int titleWidth = TextSize.getTextWidth(titleText, g);
 		g.drawString(titleText, (GamePanel.WIDTH / 2) - (titleWidth / 2), 100);
 	}
@@ -235,7 +258,7 @@ public class RulesState extends State
 	private void drawRules(Graphics2D g)
 	{
 		g.setColor(Color.BLACK);
-		g.setFont(new Font("Courier New", Font.PLAIN, 24));
+		g.setFont(TextCache.getFont(Font.PLAIN, 24));
 		
 		for(int i = 0; i < rules.size(); i++)
 		{
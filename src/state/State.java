@@ -1,6 +1,8 @@
 package state;
 import java.awt.Graphics2D;
 
+import helper.DirtyRegion;
+
 /**
  * Abstract class of a State
  * @author Vachia Thoj
@@ -13,6 +15,26 @@ public abstract class State
 		
 	}
 	
+	/**
+	 * Method that gives the region of the screen that changed since the last frame was shown
+	 * @return the DirtyRegion, or null if the whole State is drawn every frame
+	 */
+	public DirtyRegion getDirtyRegion()
+	{
+		return null;
+	}
+	
+	/**
+	 * Method that tells if the State changes from one update to the next without any input
+	 * When it does not, nothing has to be updated or drawn until the user does something
+	 * 
+	 * @return true if the State is animating, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return true;
+	}
+	
 	public abstract void update();
 	public abstract void draw(Graphics2D g);
 }
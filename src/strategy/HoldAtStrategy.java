@@ -0,0 +1,32 @@
+package strategy;
+
+/**
+ * HoldAtStrategy class keeps rolling until the turn score reaches a threshold
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class HoldAtStrategy extends Strategy
+{
+	//Turn score at which the Player holds
+	private int holdAt;
+	
+	/**
+	 * Constructor
+	 * @param holdAt (integer) turn score at which the Player holds
+	 */
+	public HoldAtStrategy(int holdAt)
+	{
+		this.holdAt = holdAt;
+	}
+	
+	//Getter methods
+	public int getHoldAt() {return holdAt;}
+	
+	public String getName() {return "Hold at " + holdAt;}
+	
+	public boolean shouldRoll(int myScore, int opponentScore, int turnScore, int targetScore)
+	{
+		return turnScore < holdAt;
+	}
+}
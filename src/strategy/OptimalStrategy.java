@@ -0,0 +1,139 @@
+package strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import solver.PigSolver;
+import solver.PolicyTable;
+
+/**
+ * OptimalStrategy class plays the optimal policy by looking each decision up
+ * in a PolicyTable
+ * 
+ * Tables are loaded from "policy-[target].bin" in the ".pigdicegame" directory of
+ * the user's home directory. When the file is missing the target score is solved in
+ * the background on at most half of the processors, so the game keeps running
+ * smoothly, and the file is written for next time; until then decisions come from
+ * a RaceToTargetStrategy
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class OptimalStrategy extends Strategy
+{
+	//Tables that are loaded or being solved, by target score
+	private static final HashMap<Integer, CompletableFuture<PolicyTable>> TABLES = new HashMap<>();
+	
+	//Directory the table files are kept in
+	private static final Path CACHE_DIRECTORY = Paths.get(System.getProperty("user.home"), ".pigdicegame");
+	
+	//Loads and solves one table at a time, it does not keep the program running
+	private static final ExecutorService SOLVER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "OptimalStrategy");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		return thread;
+	});
+	
+	//Table used for decisions
+	private CompletableFuture<PolicyTable> table;
+	
+	//Used while the table is not ready or does not match the target score
+	private Strategy fallback;
+	
+	/**
+	 * Constructor
+	 * @param table (PolicyTable) the table to look decisions up in
+	 */
+	public OptimalStrategy(PolicyTable table)
+	{
+		this.table = CompletableFuture.completedFuture(table);
+		this.fallback = new RaceToTargetStrategy();
+	}
+	
+	/**
+	 * Constructor
+	 * @param targetScore (integer) the target score to load or solve the table for
+	 */
+	public OptimalStrategy(int targetScore)
+	{
+		this.table = getTable(targetScore);
+		this.fallback = new RaceToTargetStrategy();
+	}
+	
+	public String getName() {return "Optimal";}
+	
+	/**
+	 * Method that tells if the table has been loaded or solved
+	 * @return true if decisions come from the table
+	 */
+	public boolean isReady()
+	{
+		return table.isDone() && table.isCompletedExceptionally() == false;
+	}
+	
+	public boolean shouldRoll(int myScore, int opponentScore, int turnScore, int targetScore)
+	{
+		PolicyTable policy = isReady() ? table.join() : null;
+		
+		if(policy == null || policy.getTargetScore() != targetScore)
+		{
+			return fallback.shouldRoll(myScore, opponentScore, turnScore, targetScore);
+		}
+		
+		return policy.shouldRoll(myScore, opponentScore, turnScore);
+	}
+	
+	/**
+	 * Method that gives the table of a target score, starting to load or solve it if needed
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @return the table once it is ready
+	 */
+	public static synchronized CompletableFuture<PolicyTable> getTable(int targetScore)
+	{
+		return TABLES.computeIfAbsent(targetScore, 
+				target -> CompletableFuture.supplyAsync(() -> loadOrSolve(target), SOLVER));
+	}
+	
+	/**
+	 * Method that loads the table file of a target score, or solves and writes it
+	 */
+	private static PolicyTable loadOrSolve(int targetScore)
+	{
+		Path path = CACHE_DIRECTORY.resolve("policy-" + targetScore + ".bin");
+		
+		if(Files.exists(path))
+		{
+			try
+			{
+				return PolicyTable.load(path);
+			}
+			catch(IOException e)
+			{
+				System.out.println("Ignoring policy table " + path + ": " + e.getMessage());
+			}
+		}
+		
+		PigSolver solver = new PigSolver(targetScore);
+		solver.setParallelism(Runtime.getRuntime().availableProcessors() / 2);
+		solver.solve();
+		
+		try
+		{
+			Files.createDirectories(CACHE_DIRECTORY);
+			PolicyTable.write(solver, path);
+			return PolicyTable.load(path);
+		}
+		catch(IOException e)
+		{
+			System.out.println("Could not write policy table " + path + ": " + e.getMessage());
+			return PolicyTable.create(solver);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package strategy;
+
+/**
+ * RaceToTargetStrategy class holds at a threshold that keeps pace with the
+ * opponent and races to the target once either Player is close to winning
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class RaceToTargetStrategy extends Strategy
+{
+	//Turn score to hold at when both Players are even
+	private int baseHoldAt;
+	
+	//Percentage of the target score from the end where the race starts
+	private int racePercentage;
+	
+	//Default values (tuned for a target score of 100)
+	private static final int DEFAULT_HOLD_AT = 21;
+	private static final int DEFAULT_RACE_PERCENTAGE = 29;
+	
+	//The hold threshold moves by one point per this many points of score difference
+	private static final int PACE_DIVISOR = 8;
+	
+	/**
+	 * Constructor
+	 */
+	public RaceToTargetStrategy()
+	{
+		this(DEFAULT_HOLD_AT, DEFAULT_RACE_PERCENTAGE);
+	}
+	
+	/**
+	 * Constructor
+	 * @param baseHoldAt (integer) turn score to hold at when both Players are even
+	 * @param racePercentage (integer) percentage of the target score from the end where the race starts
+	 */
+	public RaceToTargetStrategy(int baseHoldAt, int racePercentage)
+	{
+		this.baseHoldAt = baseHoldAt;
+		this.racePercentage = racePercentage;
+	}
+	
+	public String getName() {return "Race to target";}
+	
+	public boolean shouldRoll(int myScore, int opponentScore, int turnScore, int targetScore)
+	{
+		//Holding now wins the game
+		if(myScore + turnScore >= targetScore)
+		{
+			return false;
+		}
+		
+		//Near the end keep rolling until the target is reached
+		int raceScore = targetScore - ((targetScore * racePercentage) / 100);
+		if(myScore >= raceScore || opponentScore >= raceScore)
+		{
+			return true;
+		}
+		
+		//Otherwise take more risk when behind and less when ahead
+		int holdAt = baseHoldAt + Math.round((float) (opponentScore - myScore) / PACE_DIVISOR);
+		
+		return turnScore < holdAt;
+	}
+}
@@ -0,0 +1,53 @@
+package strategy;
+
+/**
+ * Abstract class that represents how a computer Player decides
+ * to roll again or hold
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public abstract class Strategy 
+{
+	protected Strategy()
+	{
+		
+	}
+	
+	/**
+	 * Method that creates a Strategy
+	 * @param type (StrategyType) the type of Strategy
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @return the Strategy, or null for a human Player
+	 */
+	public static Strategy create(StrategyType type, int targetScore)
+	{
+		switch(type)
+		{
+			case HOLD_AT_20:
+				return new HoldAtStrategy(20);
+			case RACE_TO_TARGET:
+				return new RaceToTargetStrategy();
+			case OPTIMAL:
+				return new OptimalStrategy(targetScore);
+			default:
+				return null;
+		}
+	}
+	
+	/**
+	 * Method that gives the name of the Strategy
+	 * @return the name
+	 */
+	public abstract String getName();
+	
+	/**
+	 * Method that decides if the Player should roll again
+	 * @param myScore (integer) score of the Player rolling
+	 * @param opponentScore (integer) score of the other Player
+	 * @param turnScore (integer) points gathered this turn
+	 * @param targetScore (integer) the score a Player has to reach in order to win
+	 * @return true to roll, false to hold
+	 */
+	public abstract boolean shouldRoll(int myScore, int opponentScore, int turnScore, int targetScore);
+}
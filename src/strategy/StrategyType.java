@@ -0,0 +1,14 @@
+package strategy;
+
+/**
+ * Enum to denote who controls a Player
+ * @author Vachia Thoj
+ *
+ */
+public enum StrategyType 
+{
+	HUMAN,
+	HOLD_AT_20,
+	RACE_TO_TARGET,
+	OPTIMAL;
+}
@@ -0,0 +1,34 @@
+package timeline;
+
+/**
+ * Abstract class that represents a source of time for animations
+ * Animations read the time from a Clock instead of System.nanoTime() so it can
+ * be replaced, for example with a ManualClock to make animations deterministic
+ * or to fast-forward them
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public abstract class Clock 
+{
+	//Clock given to animations that are not given one
+	private static Clock defaultClock = new SystemClock();
+	
+	//Getter methods
+	public static Clock getDefault() {return defaultClock;}
+	
+	//Setter methods
+	public static void setDefault(Clock clock) {defaultClock = clock;}
+	
+	protected Clock()
+	{
+		
+	}
+	
+	/**
+	 * Method that gives the current time
+	 * Only the difference between two times is meaningful
+	 * @return the current time in nanoseconds
+	 */
+	public abstract long nanoTime();
+}
@@ -0,0 +1,42 @@
+package timeline;
+
+/**
+ * Easing enum lists the curves a Tween can follow from its start value to its end value
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public enum Easing 
+{
+	//Constant speed
+	LINEAR,
+	
+	//Starts slow and speeds up
+	EASE_IN,
+	
+	//Starts fast and slows down
+	EASE_OUT,
+	
+	//Starts slow, speeds up and slows down again
+	EASE_IN_OUT;
+	
+	/**
+	 * Method that gives how far along the curve is
+	 * @param t (double) fraction of the time that has passed, between 0 and 1
+	 * @return fraction of the way from the start value to the end value, 0 at t = 0 and 1 at t = 1
+	 */
+	public double apply(double t)
+	{
+		switch(this)
+		{
+			case EASE_IN:
+				return t * t;
+			case EASE_OUT:
+				return t * (2 - t);
+			case EASE_IN_OUT:
+				return (t < 0.5) ? (2 * t * t) : (1 - (2 * (1 - t) * (1 - t)));
+			default:
+				return t;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package timeline;
+
+/**
+ * ManualClock class is a Clock that only moves when it is told to, so every
+ * animation reading it gives the same result on every run
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class ManualClock extends Clock
+{
+	//The current time in nanoseconds
+	private long time;
+	
+	/**
+	 * Constructor
+	 * The clock starts at one second, so a time of zero can still mean "not set"
+	 */
+	public ManualClock()
+	{
+		this.time = 1000000000L;
+	}
+	
+	public long nanoTime()
+	{
+		return time;
+	}
+	
+	/**
+	 * Method that moves the clock forward
+	 * @param nanos (long) the time to move forward in nanoseconds
+	 */
+	public void advance(long nanos)
+	{
+		time += nanos;
+	}
+}
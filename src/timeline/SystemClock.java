@@ -0,0 +1,20 @@
+package timeline;
+
+/**
+ * SystemClock class is a Clock that follows System.nanoTime()
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class SystemClock extends Clock
+{
+	public SystemClock()
+	{
+		
+	}
+	
+	public long nanoTime()
+	{
+		return System.nanoTime();
+	}
+}
@@ -0,0 +1,189 @@
+package timeline;
+
+import java.util.ArrayList;
+
+/**
+ * Timeline class plays Tweens one after another, or at the same time, by the
+ * time of a Clock
+ * The Tweens are positioned once when they are added, so starting and updating
+ * the Timeline allocates nothing. Values only depend on the time since start(),
+ * not on how often update() is called
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class Timeline 
+{
+	//Source of time
+	private Clock clock;
+	
+	//The Tweens in the order they were added
+	private ArrayList<Tween> tweens;
+	
+	//Time at which the next Tween added with add() starts, and the last one added starts
+	private long end;
+	private long lastOffset;
+	
+	//Length of the Timeline in nanoseconds
+	private long length;
+	
+	//Time of the Clock when the Timeline was started
+	private long startTime;
+	
+	//Time since the Timeline was started, as of the last update
+	private long elapsed;
+	
+	//Flag to indicate if the Timeline has been started
+	private boolean started;
+	
+	/**
+	 * Constructor
+	 * Uses the default Clock
+	 */
+	public Timeline()
+	{
+		this(Clock.getDefault());
+	}
+	
+	/**
+	 * Constructor
+	 * @param clock (Clock) the source of time
+	 */
+	public Timeline(Clock clock)
+	{
+		this.clock = clock;
+		this.tweens = new ArrayList<Tween>();
+		
+		this.end = 0;
+		this.lastOffset = 0;
+		this.length = 0;
+		
+		this.elapsed = 0;
+		this.started = false;
+	}
+	
+	//Getter methods
+	public Clock getClock() {return clock;}
+	public long getLength() {return length;}
+	public long getElapsed() {return elapsed;}
+	public boolean isStarted() {return started;}
+	
+	//Setter methods
+	public void setClock(Clock clock) {this.clock = clock;}
+	
+	/**
+	 * Method that adds a Tween that starts when everything added before it has ended
+	 * @param tween (Tween) the Tween
+	 * @return this Timeline
+	 */
+	public Timeline add(Tween tween)
+	{
+		return addAt(tween, end);
+	}
+	
+	/**
+	 * Method that adds a Tween that starts at the same time as the last Tween added
+	 * @param tween (Tween) the Tween
+	 * @return this Timeline
+	 */
+	public Timeline addWithPrevious(Tween tween)
+	{
+		return addAt(tween, lastOffset);
+	}
+	
+	/**
+	 * Method that leaves a pause before the next Tween added with add()
+	 * @param durationMillis (long) length of the pause in milliseconds
+	 * @return this Timeline
+	 */
+	public Timeline addDelay(long durationMillis)
+	{
+		end += durationMillis * 1000000L;
+		length = Math.max(length, end);
+		
+		return this;
+	}
+	
+	/**
+	 * Method that positions a Tween in the Timeline
+	 * @param tween (Tween) the Tween
+	 * @param offset (long) time at which the Tween starts in nanoseconds
+	 * @return this Timeline
+	 */
+	private Timeline addAt(Tween tween, long offset)
+	{
+		tween.offset = offset;
+		tween.setTime(elapsed - offset);
+		tweens.add(tween);
+		
+		lastOffset = offset;
+		end = Math.max(end, offset + tween.getDuration());
+		length = Math.max(length, end);
+		
+		return this;
+	}
+	
+	/**
+	 * Method that starts the Timeline from the beginning
+	 */
+	public void start()
+	{
+		startTime = clock.nanoTime();
+		started = true;
+		
+		seek(0);
+	}
+	
+	/**
+	 * Method that updates every Tween to the current time of the Clock
+	 */
+	public void update()
+	{
+		if(started == true)
+		{
+			seek(clock.nanoTime() - startTime);
+		}
+	}
+	
+	/**
+	 * Method that jumps forward by an amount of time, as if it had already passed
+	 * @param nanos (long) the time to jump in nanoseconds
+	 */
+	public void skip(long nanos)
+	{
+		startTime -= nanos;
+		update();
+	}
+	
+	/**
+	 * Method that jumps to the end of the Timeline
+	 */
+	public void finish()
+	{
+		skip(length - elapsed);
+	}
+	
+	/**
+	 * Method that tells if every Tween has ended
+	 * @return true if the Timeline was started and its length has passed, otherwise false
+	 */
+	public boolean isDone()
+	{
+		return started == true && elapsed >= length;
+	}
+	
+	/**
+	 * Method that updates every Tween to a time since the start of the Timeline
+	 * @param time (long) time since the start in nanoseconds
+	 */
+	private void seek(long time)
+	{
+		elapsed = time;
+		
+		for(int i = 0; i < tweens.size(); i++)
+		{
+			Tween tween = tweens.get(i);
+			tween.setTime(time - tween.offset);
+		}
+	}
+}
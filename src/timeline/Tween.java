@@ -0,0 +1,86 @@
+package timeline;
+
+/**
+ * Tween class moves a value from a start value to an end value over a duration
+ * following an Easing curve
+ * A Tween is driven by the Timeline it was added to; the current value can
+ * be read at any time and nothing is allocated while it runs
+ * 
+ * @author Vachia Thoj
+ *
+ */
+public class Tween 
+{
+	//Start and end value
+	private double from;
+	private double to;
+	
+	//Length of the Tween in nanoseconds
+	private long duration;
+	
+	//Curve followed from the start to the end value
+	private Easing easing;
+	
+	//Time at which the Tween starts within its Timeline in nanoseconds
+	long offset;
+	
+	//The current value
+	private double value;
+	
+	/**
+	 * Constructor
+	 * @param from (double) the start value
+	 * @param to (double) the end value
+	 * @param durationMillis (long) length of the Tween in milliseconds
+	 * @param easing (Easing) curve followed from the start to the end value
+	 */
+	public Tween(double from, double to, long durationMillis, Easing easing)
+	{
+		this.from = from;
+		this.to = to;
+		this.duration = durationMillis * 1000000L;
+		this.easing = easing;
+		
+		this.offset = 0;
+		this.value = from;
+	}
+	
+	//Getter methods
+	public double getFrom() {return from;}
+	public double getTo() {return to;}
+	public long getDuration() {return duration;}
+	public Easing getEasing() {return easing;}
+	public double getValue() {return value;}
+	public int getIntValue() {return (int) Math.round(value);}
+	
+	/**
+	 * Method that changes the start and end value, for example before the Timeline is started again
+	 * @param from (double) the start value
+	 * @param to (double) the end value
+	 */
+	public void setRange(double from, double to)
+	{
+		this.from = from;
+		this.to = to;
+	}
+	
+	/**
+	 * Method that sets the current value from the time since the Tween started
+	 * @param elapsed (long) time since the Tween started in nanoseconds, can be negative or past its end
+	 */
+	void setTime(long elapsed)
+	{
+		if(elapsed <= 0)
+		{
+			value = from;
+		}
+		else if(elapsed >= duration)
+		{
+			value = to;
+		}
+		else
+		{
+			value = from + ((to - from) * easing.apply((double) elapsed / duration));
+		}
+	}
+}
@@ -3,6 +3,9 @@ package transition;
 import java.awt.Graphics2D;
 import java.awt.Color;
 
+import timeline.Easing;
+import timeline.Tween;
+
 /**
  * FadeToBlack class executes a fade to black transition animation
  * @author Vachia Thoj
@@ -15,20 +18,27 @@ public class FadeToBlack extends Transition
 	private int y;
 	
 	//For black color opacity
-	private int alpha;
-	
-	//Timer and delay for fade to black animation (length of each animation update)
-	private long timer;
-	private long delay;
-	
-	//Timer and delay for how long to wait to declare that transition is done
-	private long doneTimer;
-	private long doneDelay;
+	private Tween alpha;
 	
 	//min and max value of alpha (opacity)
 	private static final int MIN_ALPHA = 0;
 	private static final int MAX_ALPHA = 255;
 	
+	//Length of the fade and how long to stay black before the transition is done (milliseconds)
+	private static final long FADE_DURATION = 500;
+	private static final long DONE_DELAY = 250;
+	
+	//Black with every opacity, so drawing does not create a Color each frame
+	private static final Color[] BLACK = new Color[MAX_ALPHA + 1];
+	
+	static
+	{
+		for(int i = MIN_ALPHA; i <= MAX_ALPHA; i++)
+		{
+			BLACK[i] = new Color(0, 0, 0, i);
+		}
+	}
+	
 	//Constructor
 	public FadeToBlack(int width, int height)
 	{
@@ -36,48 +46,10 @@ public class FadeToBlack extends Transition
 		
 		this.x = 0;
 		this.y = 0;
-		this.alpha = MIN_ALPHA;
-		this.speed = 10;
 		
-		this.timer = System.nanoTime();
-		this.delay = 20;
+		this.alpha = new Tween(MIN_ALPHA, MAX_ALPHA, FADE_DURATION, Easing.LINEAR);
 		
-		this.doneTimer = 0;
-		this.doneDelay = 250;
-	}
-	
-	/**
-	 * Method that updates the fade to black transition
-	 */
-	public void update()
-	{
-		//Execute fade to black transition if running
-		if(running == true)
-		{
-			if(alpha >= MAX_ALPHA)
-			{
-				if(doneTimer == 0)
-				{
-					doneTimer = System.nanoTime();
-				}
-				else if(((System.nanoTime() - doneTimer) / 1000000) > doneDelay)
-				{
-					done = true;
-					running = false;
-				}
-			}
-			else if(((System.nanoTime() - timer) / 1000000) > delay)
-			{
-				alpha = alpha + speed;
-				
-				if(alpha > MAX_ALPHA)
-				{
-					alpha = MAX_ALPHA;
-				}
-				
-				timer = System.nanoTime();
-			}
-		}
+		timeline.add(alpha).addDelay(DONE_DELAY);
 	}
 	
 	/**
@@ -89,7 +61,7 @@ public class FadeToBlack extends Transition
 	{
 		if(running == true)
 		{
-			g.setColor(new Color(0, 0, 0, alpha));
+			g.setColor(BLACK[alpha.getIntValue()]);
 			g.fillRect(x, y, width, height);
 		}
 	}
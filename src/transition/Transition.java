@@ -2,8 +2,14 @@ package transition;
 
 import java.awt.Graphics2D;
 
+import timeline.Clock;
+import timeline.Timeline;
+
 /**
  * Abstract class that represents a Transition
+ * Subclasses add Tweens to the Timeline of the Transition and draw from their
+ * values; the Transition is done once the Timeline has ended
+ * 
  * @author Vachia Thoj
  *
  */
@@ -13,8 +19,8 @@ public abstract class Transition
 	protected int width;
 	protected int height;
 	
-	//Speed of Transition
-	protected int speed;
+	//Plays the Tweens of the Transition
+	protected Timeline timeline;
 	
 	//Flag to indicate if Transition is running/executing
 	protected boolean running;
@@ -22,9 +28,6 @@ public abstract class Transition
 	//Flag to indicate if the Transition has been completed
 	protected boolean done;
 	
-	//Default speed of transition
-	private static final int DEFAULT_SPEED = 5;
-	
 	/**
 	 * Constructor
 	 * @param width (integer) the total width area for the Transition
@@ -35,21 +38,62 @@ public abstract class Transition
 		this.width = width;
 		this.height = height;
 		
-		this.speed = DEFAULT_SPEED;
+		this.timeline = new Timeline();
 	}
 	
 	//Getter methods
 	public int getWidth() {return width;}
 	public int getHeight() {return height;}
-	public int getSpeed() {return speed;}
+	public Timeline getTimeline() {return timeline;}
 	public boolean isRunning() {return running;}
 	public boolean isDone() {return done;}
 	
 	//Setter methods
-	public void setSpeed(int speed) {this.speed = speed;}
-	public void setRunning(boolean b) {running = b;}
+	public void setClock(Clock clock) {timeline.setClock(clock);}
 	public void setDone(boolean b) {done = b;}
 	
-	public abstract void update();
+	/**
+	 * Method that starts or stops the Transition
+	 * The Transition starts from the beginning each time it is set running
+	 * 
+	 * @param b (boolean) true to start the Transition, false to stop it
+	 */
+	public void setRunning(boolean b)
+	{
+		if(b == true && running == false)
+		{
+			timeline.start();
+			done = false;
+		}
+		
+		running = b;
+	}
+	
+	/**
+	 * Method that tells if the Transition changes from one update to the next
+	 * @return true while the Transition is running, otherwise false
+	 */
+	public boolean isAnimating()
+	{
+		return running;
+	}
+	
+	/**
+	 * Method that updates the Transition to the current time
+	 */
+	public void update()
+	{
+		if(running == true)
+		{
+			timeline.update();
+			
+			if(timeline.isDone())
+			{
+				done = true;
+				running = false;
+			}
+		}
+	}
+	
 	public abstract void draw(Graphics2D g);
 }
@@ -3,6 +3,9 @@ package transition;
 import java.awt.Graphics2D;
 import java.awt.Color;
 
+import timeline.Easing;
+import timeline.Tween;
+
 /**
  * VerticalSplit class executes a vertical split transition animation
  * @author Vachia Thoj
@@ -14,21 +17,15 @@ public class VerticalSplit extends Transition
 	private int leftX;
 	private int leftY;
 	
-	//x and y coordinate of the right "rectangle"
-	private int rightX;
+	//y coordinate of the right "rectangle"
 	private int rightY;
 	
-	//The current and max width of "rectangle" used for vertical split transition
-	private int currentWidth;
-	private int maxWidth;
-	
-	//Timer and delay for vertical split animation (length of each animation update)
-	private long timer;
-	private long delay;
+	//The current width of "rectangle" used for vertical split transition
+	private Tween currentWidth;
 	
-	//Timer and delay for how long to wait to declare that transition is done
-	private long doneTimer;
-	private long doneDelay;
+	//Length of the split and how long to wait to declare that transition is done (milliseconds)
+	private static final long SPLIT_DURATION = 640;
+	private static final long DONE_DELAY = 400;
 	
 	//Color of the "rectangle"/transition
 	private Color color;
@@ -38,12 +35,9 @@ public class VerticalSplit extends Transition
 	{
 		super(width, height);
 		
-		this.currentWidth = 0;
-		
 		this.leftX = 0;
 		this.leftY = 0;
 		
-		this.rightX = width - currentWidth;
 		this.rightY = 0;
 		
 		if(width % 2 == 1)
@@ -51,53 +45,13 @@ public class VerticalSplit extends Transition
 			++width;
 		}
 		
-		this.maxWidth = width / 2; 
+		this.currentWidth = new Tween(0, width / 2, SPLIT_DURATION, Easing.LINEAR);
 		
-		this.speed = 10;
-		this.timer = System.nanoTime();
-		this.delay = 10;
-		
-		this.doneTimer = 0;
-		this.doneDelay = 400;
+		timeline.add(currentWidth).addDelay(DONE_DELAY);
 		
 		this.color = Color.BLACK;
 	}
 	
-	/**
-	 * Method that updates the vertical split transition
-	 */
-	public void update()
-	{
-		if(running == true)
-		{
-			if(currentWidth >= maxWidth)
-			{
-				if(doneTimer == 0)
-				{
-					doneTimer = System.nanoTime();
-				}
-				else if(((System.nanoTime() - doneTimer) / 1000000) > doneDelay)
-				{
-					done = true;
-					running = false;
-				}
-			}
-			else if(((System.nanoTime() - timer) / 1000000) > delay)
-			{
-				currentWidth = currentWidth + speed;
-				
-				if(currentWidth >= maxWidth)
-				{
-					currentWidth = maxWidth;
-				}
-				
-				rightX = width - currentWidth;
-				
-				timer = System.nanoTime();
-			}
-		}
-	}
-	
 	/**
 	 * Method that draws the vertical split transition
 	 * 
@@ -107,9 +61,11 @@ public class VerticalSplit extends Transition
 	{
 		if(running == true)
 		{
+			int rectangleWidth = currentWidth.getIntValue();
+			
 			g.setColor(color);
-			g.fillRect(leftX, leftY, currentWidth, height);
-			g.fillRect(rightX, rightY, currentWidth, height);
+			g.fillRect(leftX, leftY, rectangleWidth, height);
+			g.fillRect(width - rectangleWidth, rightY, rectangleWidth, height);
 		}
 	}
 }